@@ -0,0 +1,75 @@
+package com.example.eventsapi.benchmark;
+
+import com.example.eventsapi.EventsApiApplication;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.entity.Event;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+final class BenchmarkData {
+    static final int DELETED_EVERY = 20;
+    private static final int SEED_BATCH_SIZE = 5_000;
+    static final LocalDateTime BASE_DATE = LocalDateTime.of(2030, 1, 1, 10, 0);
+    static final Instant BASE_INSTANT = BASE_DATE.toInstant(ZoneOffset.UTC);
+
+    private BenchmarkData() {
+    }
+
+    static ConfigurableApplicationContext startContext() {
+        return new SpringApplicationBuilder(EventsApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .run(
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_ON_EXIT=FALSE;QUERY_CACHE_SIZE=0",
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false",
+                        "--logging.level.root=WARN"
+                );
+    }
+
+    static void seed(JdbcTemplate jdbcTemplate, int rows) {
+        String sql = "INSERT INTO events (id, titulo, data_hora, local, deleted, version, updated_at) VALUES (?, ?, ?, ?, ?, 0, CURRENT_TIMESTAMP)";
+        List<Object[]> batch = new ArrayList<>(SEED_BATCH_SIZE);
+        for (long id = 1; id <= rows; id++) {
+            batch.add(new Object[]{
+                    id,
+                    "Evento " + id,
+                    Timestamp.valueOf(BASE_DATE.plusMinutes(id)),
+                    "Local " + (id % 100),
+                    id % DELETED_EVERY == 0
+            });
+            if (batch.size() == SEED_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, batch);
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, batch);
+        }
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    static Event event(long id) {
+        Event event = new Event("Evento " + id, BASE_DATE.plusMinutes(id), "Local " + (id % 100));
+        event.setId(id);
+        event.setVersion(0L);
+        event.setUpdatedAt(BASE_INSTANT);
+        return event;
+    }
+
+    static List<EventResponseDTO> responses(int size) {
+        List<EventResponseDTO> responses = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            responses.add(new EventResponseDTO(id, "Evento " + id, BASE_DATE.plusMinutes(id), "Local " + (id % 100), false, 0L, BASE_INSTANT));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,92 @@
+package com.example.eventsapi.benchmark;
+
+import com.example.eventsapi.dto.CursorPageResponseDTO;
+import com.example.eventsapi.dto.EventCursor;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.service.EventService;
+import lombok.extern.slf4j.Slf4j;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventIndexBenchmark {
+    private static final Sort CHRONOLOGICAL = Sort.by("dataHora", "id");
+    private static final String FIRST_PAGE = "SELECT id FROM events WHERE deleted = FALSE ORDER BY data_hora, id LIMIT 20";
+    private static final String BY_LOCAL = "SELECT id FROM events WHERE local = ? AND deleted = FALSE";
+    private static final String DROP = "DROP INDEX IF EXISTS ";
+    private static final List<String> INDEXES = List.of(
+            "idx_events_deleted_data_hora_id ON events (deleted, data_hora, id)",
+            "idx_events_local ON events (local)"
+    );
+
+    @Param({"1000000"})
+    private int rows;
+
+    @Param({"true", "false"})
+    private boolean indexed;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+    private JdbcTemplate jdbcTemplate;
+    private String deepCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkData.startContext();
+        eventService = context.getBean(EventService.class);
+        jdbcTemplate = context.getBean(JdbcTemplate.class);
+        for (String index : INDEXES) {
+            jdbcTemplate.execute(DROP + index.substring(0, index.indexOf(' ')));
+        }
+        BenchmarkData.seed(jdbcTemplate, rows);
+        if (indexed) {
+            for (String index : INDEXES) {
+                jdbcTemplate.execute("CREATE INDEX " + index);
+            }
+            jdbcTemplate.execute("ANALYZE");
+        }
+
+        long deepId = rows - 100L;
+        deepCursor = new EventCursor(BenchmarkData.BASE_DATE.plusMinutes(deepId), deepId).encode();
+        explain(FIRST_PAGE);
+        explain(BY_LOCAL.replace("?", "'Local 42'"));
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<EventResponseDTO> findAllFirstPage() {
+        return eventService.findAll(PageRequest.of(0, 20, CHRONOLOGICAL));
+    }
+
+    @Benchmark
+    public CursorPageResponseDTO<EventResponseDTO> findAllByCursorDeep() {
+        return eventService.findAllByCursor(deepCursor, 20);
+    }
+
+    @Benchmark
+    public List<Long> findIdsByLocal() {
+        return jdbcTemplate.queryForList(BY_LOCAL, Long.class, "Local 42");
+    }
+
+    private void explain(String sql) {
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+        log.info("Plano com indexed={}: {}", indexed, plan.replaceAll("\\s+", " "));
+    }
+}
@@ -0,0 +1,37 @@
+package com.example.eventsapi.benchmark;
+
+import com.example.eventsapi.dto.EventRequestDTO;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.entity.Event;
+import com.example.eventsapi.mapper.EventMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventMapperBenchmark {
+    private final EventMapper eventMapper = new EventMapper();
+    private Event event;
+    private EventRequestDTO request;
+
+    @Setup
+    public void setUp() {
+        event = BenchmarkData.event(42);
+        request = new EventRequestDTO("Evento 42", BenchmarkData.BASE_DATE, "Local 42");
+    }
+
+    @Benchmark
+    public EventResponseDTO toResponseDTO() {
+        return eventMapper.toResponseDTO(event);
+    }
+
+    @Benchmark
+    public Event toEntity() {
+        return eventMapper.toEntity(request);
+    }
+}
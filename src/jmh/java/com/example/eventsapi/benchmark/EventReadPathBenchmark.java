@@ -0,0 +1,92 @@
+package com.example.eventsapi.benchmark;
+
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.entity.Event;
+import com.example.eventsapi.mapper.EventMapper;
+import com.example.eventsapi.repository.EventRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code findAll} on large pages: managed entities copied through {@link EventMapper} (with and
+ * without a read-only transaction) against the constructor-expression projection used by
+ * {@link EventRepository}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventReadPathBenchmark {
+    private static final String ENTITY_PAGE = "select e from Event e where e.deleted = false order by e.dataHora, e.id";
+    private static final Sort CHRONOLOGICAL = Sort.by("dataHora", "id");
+
+    @Param({"100000"})
+    private int rows;
+
+    @Param({"100", "1000"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private EventRepository eventRepository;
+    private EventMapper eventMapper;
+    private EntityManager entityManager;
+    private TransactionTemplate readWrite;
+    private TransactionTemplate readOnly;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkData.startContext();
+        eventRepository = context.getBean(EventRepository.class);
+        eventMapper = context.getBean(EventMapper.class);
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(context.getBean(EntityManagerFactory.class));
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWrite = new TransactionTemplate(transactionManager);
+        readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        BenchmarkData.seed(context.getBean(JdbcTemplate.class), rows);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EventResponseDTO> managedEntities() {
+        return readWrite.execute(status -> entityPage());
+    }
+
+    @Benchmark
+    public List<EventResponseDTO> readOnlyEntities() {
+        return readOnly.execute(status -> entityPage());
+    }
+
+    @Benchmark
+    public Slice<EventResponseDTO> projection() {
+        return eventRepository.findSliceByDeletedFalse(PageRequest.of(1, pageSize, CHRONOLOGICAL));
+    }
+
+    private List<EventResponseDTO> entityPage() {
+        return entityManager.createQuery(ENTITY_PAGE, Event.class)
+                .setFirstResult(pageSize)
+                .setMaxResults(pageSize)
+                .getResultList()
+                .stream()
+                .map(eventMapper::toResponseDTO)
+                .toList();
+    }
+}
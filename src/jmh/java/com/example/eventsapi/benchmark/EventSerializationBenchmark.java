@@ -0,0 +1,55 @@
+package com.example.eventsapi.benchmark;
+
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EventSerializationBenchmark {
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private ObjectWriter writer;
+    private ObjectWriter smileWriter;
+    private ObjectWriter cborWriter;
+    private List<EventResponseDTO> events;
+
+    @Setup
+    public void setUp() {
+        writer = listWriter(Jackson2ObjectMapperBuilder.json().build());
+        smileWriter = listWriter(Jackson2ObjectMapperBuilder.smile().build());
+        cborWriter = listWriter(Jackson2ObjectMapperBuilder.cbor().build());
+        events = BenchmarkData.responses(size);
+    }
+
+    @Benchmark
+    public byte[] serializeList() throws JsonProcessingException {
+        return writer.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] serializeListSmile() throws JsonProcessingException {
+        return smileWriter.writeValueAsBytes(events);
+    }
+
+    @Benchmark
+    public byte[] serializeListCbor() throws JsonProcessingException {
+        return cborWriter.writeValueAsBytes(events);
+    }
+
+    private static ObjectWriter listWriter(ObjectMapper objectMapper) {
+        return objectMapper.writerFor(objectMapper.getTypeFactory()
+                .constructCollectionType(List.class, EventResponseDTO.class));
+    }
+}
@@ -0,0 +1,79 @@
+package com.example.eventsapi.benchmark;
+
+import com.example.eventsapi.dto.CursorPageResponseDTO;
+import com.example.eventsapi.dto.EventCursor;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.service.EventService;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EventServiceBenchmark {
+    private static final Sort CHRONOLOGICAL = Sort.by("dataHora", "id");
+
+    @Param({"1000", "100000"})
+    private int rows;
+
+    @Param({"10", "100"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+    private int deepPage;
+    private String deepCursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkData.startContext();
+        eventService = context.getBean(EventService.class);
+        BenchmarkData.seed(context.getBean(JdbcTemplate.class), rows);
+
+        deepPage = rows / pageSize - 2;
+        long deepId = (long) deepPage * pageSize;
+        deepCursor = new EventCursor(BenchmarkData.BASE_DATE.plusMinutes(deepId), deepId).encode();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Page<EventResponseDTO> findAllFirstPage() {
+        return eventService.findAll(PageRequest.of(0, pageSize, CHRONOLOGICAL));
+    }
+
+    @Benchmark
+    public Page<EventResponseDTO> findAllDeepPage() {
+        return eventService.findAll(PageRequest.of(deepPage, pageSize, CHRONOLOGICAL));
+    }
+
+    @Benchmark
+    public Slice<EventResponseDTO> findSliceDeepPage() {
+        return eventService.findSlice(PageRequest.of(deepPage, pageSize, CHRONOLOGICAL));
+    }
+
+    @Benchmark
+    public CursorPageResponseDTO<EventResponseDTO> findAllByCursorDeep() {
+        return eventService.findAllByCursor(deepCursor, pageSize);
+    }
+
+    @Benchmark
+    public EventResponseDTO findById() {
+        long id = ThreadLocalRandom.current().nextLong(1, rows + 1);
+        return eventService.findById(id % BenchmarkData.DELETED_EVERY == 0 ? id - 1 : id);
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.eventsapi.benchmark;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator for comparing server execution modes.
+ *
+ * <p>Each of the {@code --concurrency} workers alternates between {@code GET /api/events}
+ * and {@code GET /api/events/{id}} for {@code --duration} seconds after a {@code --warmup},
+ * then throughput and latency percentiles are printed per endpoint.
+ */
+public final class HttpLoadGenerator {
+    private static final String LIST = "GET /api/events";
+    private static final String BY_ID = "GET /api/events/{id}";
+    private static final int SEED_BATCH_SIZE = 1_000;
+
+    private final URI baseUrl;
+    private final int concurrency;
+    private final Duration warmup;
+    private final Duration duration;
+    private final int seed;
+    private final HttpClient client;
+
+    private HttpLoadGenerator(Map<String, String> options) {
+        this.baseUrl = URI.create(options.getOrDefault("url", "http://localhost:8080"));
+        this.concurrency = Integer.parseInt(options.getOrDefault("concurrency", "200"));
+        this.warmup = Duration.ofSeconds(Long.parseLong(options.getOrDefault("warmup", "5")));
+        this.duration = Duration.ofSeconds(Long.parseLong(options.getOrDefault("duration", "30")));
+        this.seed = Integer.parseInt(options.getOrDefault("seed", "1000"));
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(Math.max(4, Runtime.getRuntime().availableProcessors())))
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            String[] pair = arg.replaceFirst("^--", "").split("=", 2);
+            options.put(pair[0], pair.length > 1 ? pair[1] : "true");
+        }
+        new HttpLoadGenerator(options).run();
+    }
+
+    private void run() throws Exception {
+        seedEvents();
+        System.out.printf("Aquecendo por %ds com %d clientes...%n", warmup.toSeconds(), concurrency);
+        execute(warmup);
+        System.out.printf("Medindo por %ds com %d clientes...%n", duration.toSeconds(), concurrency);
+        Map<String, Recorder> results = execute(duration);
+        report(results);
+        System.exit(0);
+    }
+
+    private void seedEvents() throws IOException, InterruptedException {
+        for (int start = 0; start < seed; start += SEED_BATCH_SIZE) {
+            StringBuilder body = new StringBuilder("[");
+            for (int i = start; i < Math.min(start + SEED_BATCH_SIZE, seed); i++) {
+                if (i > start) {
+                    body.append(',');
+                }
+                body.append("{\"titulo\":\"Evento de carga ").append(i)
+                        .append("\",\"dataHora\":\"2099-01-01T10:00:00\",\"local\":\"Local ").append(i % 50).append("\"}");
+            }
+            HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve("/api/events/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body.append(']').toString()))
+                    .build();
+            HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+            if (response.statusCode() != 200) {
+                throw new IllegalStateException("Falha ao popular eventos: HTTP " + response.statusCode());
+            }
+        }
+    }
+
+    private Map<String, Recorder> execute(Duration window) throws Exception {
+        long deadline = System.nanoTime() + window.toNanos();
+        ExecutorService workers = Executors.newFixedThreadPool(concurrency);
+        List<Future<Map<String, Recorder>>> futures = new ArrayList<>();
+        for (int i = 0; i < concurrency; i++) {
+            futures.add(workers.submit(() -> worker(deadline)));
+        }
+        Map<String, Recorder> merged = new HashMap<>();
+        for (Future<Map<String, Recorder>> future : futures) {
+            future.get().forEach((endpoint, recorder) ->
+                    merged.computeIfAbsent(endpoint, key -> new Recorder()).merge(recorder));
+        }
+        workers.shutdown();
+        return merged;
+    }
+
+    private Map<String, Recorder> worker(long deadline) {
+        Map<String, Recorder> recorders = Map.of(LIST, new Recorder(), BY_ID, new Recorder());
+        boolean list = ThreadLocalRandom.current().nextBoolean();
+        while (System.nanoTime() < deadline) {
+            String endpoint = list ? LIST : BY_ID;
+            String path = list ? "/api/events?size=10" : "/api/events/" + ThreadLocalRandom.current().nextInt(1, Math.max(2, seed + 1));
+            HttpRequest request = HttpRequest.newBuilder(baseUrl.resolve(path))
+                    .timeout(Duration.ofSeconds(30))
+                    .GET()
+                    .build();
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = client.send(request, HttpResponse.BodyHandlers.discarding());
+                recorders.get(endpoint).record(System.nanoTime() - start, response.statusCode() < 500);
+            } catch (IOException e) {
+                recorders.get(endpoint).record(System.nanoTime() - start, false);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            list = !list;
+        }
+        return recorders;
+    }
+
+    private void report(Map<String, Recorder> results) {
+        double seconds = duration.toNanos() / 1e9;
+        System.out.printf("%n%-24s %10s %10s %8s %9s %9s %9s %9s%n",
+                "Endpoint", "Requests", "Req/s", "Errors", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        results.forEach((endpoint, recorder) -> {
+            long[] latencies = recorder.sorted();
+            System.out.printf(Locale.ROOT, "%-24s %10d %10.1f %8d %9.2f %9.2f %9.2f %9.2f%n",
+                    endpoint,
+                    latencies.length,
+                    latencies.length / seconds,
+                    recorder.errors.get(),
+                    percentile(latencies, 0.50),
+                    percentile(latencies, 0.90),
+                    percentile(latencies, 0.99),
+                    percentile(latencies, 1.0));
+        });
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1e6;
+    }
+
+    private static final class Recorder {
+        private long[] latencies = new long[1024];
+        private int count;
+        private final AtomicLong errors = new AtomicLong();
+
+        void record(long nanos, boolean success) {
+            if (!success) {
+                errors.incrementAndGet();
+            }
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+
+        void merge(Recorder other) {
+            for (int i = 0; i < other.count; i++) {
+                record(other.latencies[i], true);
+            }
+            errors.addAndGet(other.errors.get());
+        }
+
+        long[] sorted() {
+            long[] copy = Arrays.copyOf(latencies, count);
+            Arrays.sort(copy);
+            return copy;
+        }
+    }
+}
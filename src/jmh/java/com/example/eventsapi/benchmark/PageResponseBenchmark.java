@@ -0,0 +1,42 @@
+package com.example.eventsapi.benchmark;
+
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.dto.PageResponseDTO;
+import com.example.eventsapi.entity.Event;
+import com.example.eventsapi.mapper.EventMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class PageResponseBenchmark {
+    @Param({"10", "100", "1000"})
+    private int size;
+
+    private final EventMapper eventMapper = new EventMapper();
+    private Page<Event> page;
+
+    @Setup
+    public void setUp() {
+        List<Event> events = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            events.add(BenchmarkData.event(id));
+        }
+        page = new PageImpl<>(events, PageRequest.of(0, size), size * 10L);
+    }
+
+    @Benchmark
+    public PageResponseDTO<EventResponseDTO> mapAndWrap() {
+        return PageResponseDTO.of(page.map(eventMapper::toResponseDTO));
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.eventsapi.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    public static final String EVENTS_CACHE = "events";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${events.cache.spec}") String spec) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(EVENTS_CACHE);
+        cacheManager.setCacheSpecification(spec);
+        return new TransactionAwareCacheManagerProxy(cacheManager);
+    }
+}
@@ -0,0 +1,101 @@
+package com.example.eventsapi.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+    static final String COOKIE = "events-last-write";
+    private static final ThreadLocal<Client> CLIENT = new ThreadLocal<>();
+
+    private final Duration window;
+    private final LongSupplier clock;
+
+    public ReadYourWritesFilter(Duration window) {
+        this(window, System::currentTimeMillis);
+    }
+
+    ReadYourWritesFilter(Duration window, LongSupplier clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        long lastWrite = lastWrite(request);
+        CLIENT.set(new Client(lastWrite >= 0 && clock.getAsLong() - lastWrite < window.toMillis(), () -> remember(response)));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            CLIENT.remove();
+        }
+    }
+
+    static boolean pinnedToPrimary() {
+        Client client = CLIENT.get();
+        return client != null && client.pinned;
+    }
+
+    static void recordWrite() {
+        Client client = CLIENT.get();
+        if (client != null) {
+            client.wrote();
+        }
+    }
+
+    private long lastWrite(HttpServletRequest request) {
+        Cookie cookie = WebUtils.getCookie(request, COOKIE);
+        if (cookie == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(cookie.getValue());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private void remember(HttpServletResponse response) {
+        if (response.isCommitted()) {
+            return;
+        }
+        Cookie cookie = new Cookie(COOKIE, String.valueOf(clock.getAsLong()));
+        cookie.setPath("/api");
+        cookie.setHttpOnly(true);
+        cookie.setMaxAge((int) Math.max(1, window.toSeconds()));
+        response.addCookie(cookie);
+    }
+
+    private static final class Client {
+        private final Runnable onFirstWrite;
+        private boolean pinned;
+        private boolean written;
+
+        private Client(boolean pinned, Runnable onFirstWrite) {
+            this.pinned = pinned;
+            this.onFirstWrite = onFirstWrite;
+        }
+
+        private void wrote() {
+            pinned = true;
+            if (!written) {
+                written = true;
+                onFirstWrite.run();
+            }
+        }
+    }
+}
@@ -1,51 +1,227 @@
 package com.example.eventsapi.controller;
 
+import com.example.eventsapi.config.JacksonConfig;
+import com.example.eventsapi.dto.BatchResponseDTO;
+import com.example.eventsapi.dto.CountMode;
+import com.example.eventsapi.dto.CursorPageResponseDTO;
+import com.example.eventsapi.dto.EventBatchUpdateDTO;
+import com.example.eventsapi.dto.EventCollectionVersion;
 import com.example.eventsapi.dto.EventRequestDTO;
 import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.dto.EventSearchCriteria;
+import com.example.eventsapi.dto.IngestStatus;
+import com.example.eventsapi.dto.IngestStatusDTO;
 import com.example.eventsapi.dto.PageResponseDTO;
+import com.example.eventsapi.exception.EventVersionConflictException;
+import com.example.eventsapi.service.EventBatchService;
+import com.example.eventsapi.service.EventChangeFeed;
+import com.example.eventsapi.service.EventIngestQueue;
+import com.example.eventsapi.service.EventPageCache;
+import com.example.eventsapi.service.EventSearchService;
 import com.example.eventsapi.service.EventService;
+import com.example.eventsapi.service.EventSyncService;
+import com.example.eventsapi.service.UpcomingEventsIndex;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
 import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import jakarta.validation.Valid;
-import org.springframework.data.domain.Page;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.context.annotation.Profile;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping("/api/events")
 public class EventController {
     private final EventService eventService;
+    private final EventBatchService eventBatchService;
+    private final EventChangeFeed eventChangeFeed;
+    private final EventSyncService eventSyncService;
+    private final EventSearchService eventSearchService;
+    private final UpcomingEventsIndex upcomingEventsIndex;
+    private final EventPageCache eventPageCache;
+    private final EventIngestQueue eventIngestQueue;
+    private final ObjectWriter pageWriter;
+    private final ObjectWriter ndjsonWriter;
 
-    public EventController(EventService eventService) {
+    public EventController(EventService eventService,
+                           EventBatchService eventBatchService,
+                           EventChangeFeed eventChangeFeed,
+                           EventSyncService eventSyncService,
+                           EventSearchService eventSearchService,
+                           UpcomingEventsIndex upcomingEventsIndex,
+                           EventPageCache eventPageCache,
+                           EventIngestQueue eventIngestQueue,
+                           ObjectMapper objectMapper) {
         this.eventService = eventService;
+        this.eventBatchService = eventBatchService;
+        this.eventChangeFeed = eventChangeFeed;
+        this.eventSyncService = eventSyncService;
+        this.eventSearchService = eventSearchService;
+        this.upcomingEventsIndex = upcomingEventsIndex;
+        this.eventPageCache = eventPageCache;
+        this.eventIngestQueue = eventIngestQueue;
+        this.pageWriter = objectMapper.writer();
+        this.ndjsonWriter = objectMapper.writerFor(EventResponseDTO.class)
+                .withRootValueSeparator("\n")
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
     }
 
     @GetMapping
-    @Operation(summary = "Lista todos os eventos", description = "Retorna uma lista de todos os eventos que não foram deletados")
-    public ResponseEntity<PageResponseDTO<EventResponseDTO>> findAll(
+    @Operation(summary = "Lista todos os eventos", description = "Retorna uma lista de todos os eventos que não foram deletados. O parâmetro count (EXACT, APPROXIMATE ou NONE) controla como o total é calculado. Suporta If-None-Match/If-Modified-Since, retornando 304 quando a coleção não mudou. As páginas já serializadas ficam em cache enquanto a versão da coleção no banco não mudar. Com includeArchived=true, inclui os eventos arquivados (sem cache; APPROXIMATE e NONE não calculam o total)")
+    @ApiResponse(responseCode = "200", content = @Content(mediaType = MediaType.APPLICATION_JSON_VALUE,
+            schema = @Schema(implementation = PageResponseDTO.class)))
+    public ResponseEntity<byte[]> findAll(
+            @PageableDefault(size = 10) Pageable pageable,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            WebRequest request) throws JsonProcessingException {
+
+        if (includeArchived) {
+            PageResponseDTO<EventResponseDTO> response = count == CountMode.EXACT
+                    ? PageResponseDTO.of(eventService.findAllIncludingArchived(pageable))
+                    : PageResponseDTO.of(eventService.findSliceIncludingArchived(pageable), null);
+            return ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(pageWriter.writeValueAsBytes(response));
+        }
+
+        Long approximateTotal = count == CountMode.APPROXIMATE ? eventService.approximateCount() : null;
+        EventPageCache.Key key = new EventPageCache.Key(pageable.getPageNumber(), pageable.getPageSize(),
+                pageable.getSort().toString(), count, approximateTotal);
+        EventCollectionVersion version = eventService.collectionVersion();
+        String etag = version.etag(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), count, approximateTotal);
+        if (request.checkNotModified(etag, version.lastModifiedMillis())) {
+            return null;
+        }
+        byte[] body = eventPageCache.get(key, version);
+        if (body == null) {
+            body = pageWriter.writeValueAsBytes(page(pageable, count, approximateTotal));
+            eventPageCache.put(key, version, body);
+        }
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .lastModified(version.lastModifiedMillis())
+                .body(body);
+    }
+
+    @GetMapping(produces = {JacksonConfig.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(summary = "Lista eventos em formato binário", description = "Mesma listagem paginada de GET /api/events, serializada em Smile ou CBOR conforme o Accept, para consumidores internos")
+    public ResponseEntity<PageResponseDTO<EventResponseDTO>> findAllBinary(
+            @PageableDefault(size = 10) Pageable pageable,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
+            @RequestHeader(HttpHeaders.ACCEPT) String accept,
+            WebRequest request) {
+
+        Long approximateTotal = count == CountMode.APPROXIMATE ? eventService.approximateCount() : null;
+        EventCollectionVersion version = eventService.collectionVersion();
+        String etag = version.etag(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), count, approximateTotal, accept);
+        if (request.checkNotModified(etag, version.lastModifiedMillis())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(page(pageable, count, approximateTotal));
+    }
+
+    @GetMapping("/cursor")
+    @Operation(summary = "Lista eventos por cursor", description = "Retorna eventos ordenados por data/hora usando paginação por cursor (keyset), sem contagem total")
+    public ResponseEntity<CursorPageResponseDTO<EventResponseDTO>> findAllByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return ResponseEntity.ok(eventService.findAllByCursor(cursor, size));
+    }
+
+    @GetMapping("/upcoming")
+    @Operation(summary = "Lista os próximos eventos", description = "Retorna os próximos eventos a partir de agora (ou de from), ordenados por data/hora, servidos de um índice em memória sem consultar o banco")
+    public ResponseEntity<List<EventResponseDTO>> findUpcoming(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(upcomingEventsIndex.next(from, limit));
+    }
+
+    @GetMapping("/search")
+    @Operation(summary = "Busca eventos", description = "Busca eventos por palavras do título (q, sem diferenciar acentos e maiúsculas, ordenado por relevância), local exato (local) ou prefixo (localPrefix) e intervalo de data/hora (from/to). Os filtros são combinados e o resultado é paginado")
+    public ResponseEntity<PageResponseDTO<EventResponseDTO>> search(
+            @ParameterObject EventSearchCriteria criteria,
             @PageableDefault(size = 10) Pageable pageable) {
+        return ResponseEntity.ok(PageResponseDTO.of(eventSearchService.search(criteria, pageable)));
+    }
 
-        Page<EventResponseDTO> events = eventService.findAll(pageable);
-        PageResponseDTO<EventResponseDTO> response = PageResponseDTO.of(events);
-        return ResponseEntity.ok(response);
+    @GetMapping("/changes")
+    @Operation(summary = "Lista alterações desde um token", description = "Retorna eventos criados, atualizados ou removidos (tombstones com deleted=true) em ordem de alteração, a partir do token since. Use nextCursor como since na próxima chamada; sem since, começa do início. Retorna 410 quando o token é anterior a tombstones já removidos")
+    public ResponseEntity<CursorPageResponseDTO<EventResponseDTO>> findChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(eventSyncService.findChanges(since, size));
     }
 
     @GetMapping("/all")
-    @Operation(summary = "Lista todos os eventos sem paginação", description = "Retorna uma lista completa de todos os eventos")
-    public ResponseEntity<List<EventResponseDTO>> findAllWithoutPagination() {
+    @Operation(summary = "Lista todos os eventos sem paginação", description = "Retorna uma lista completa de todos os eventos, em JSON ou, conforme o Accept, em Smile (application/x-jackson-smile) ou CBOR (application/cbor). Suporta If-None-Match/If-Modified-Since, retornando 304 quando a coleção não mudou")
+    public ResponseEntity<List<EventResponseDTO>> findAllWithoutPagination(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            WebRequest request) {
+        EventCollectionVersion version = eventService.collectionVersion();
+        if (request.checkNotModified(version.etag("all", accept), version.lastModifiedMillis())) {
+            return null;
+        }
         List<EventResponseDTO> events = eventService.findAll();
-        return ResponseEntity.ok(events);
+        return ResponseEntity.ok()
+                .varyBy(HttpHeaders.ACCEPT)
+                .body(events);
+    }
+
+    @GetMapping(value = "/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Exporta todos os eventos em NDJSON", description = "Transmite todos os eventos não deletados, um por linha, sem carregar a tabela inteira em memória")
+    public ResponseEntity<StreamingResponseBody> streamAll() {
+        StreamingResponseBody body = outputStream -> {
+            try (SequenceWriter writer = ndjsonWriter.writeValues(outputStream)) {
+                eventService.streamAll(event -> write(writer, event));
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Feed de alterações (SSE)", description = "Envia as criações, atualizações e remoções de eventos via Server-Sent Events após o commit. Com Last-Event-ID, reenvia as alterações perdidas que ainda estão no buffer; se o ID estiver fora da janela ou for de uma execução anterior do servidor, envia um evento reset")
+    public SseEmitter stream(@RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        return eventChangeFeed.subscribe(lastEventId);
     }
 
     @GetMapping("/{id}")
-    @Operation(summary = "Busca evento por ID", description = "Retorna os detalhes de um evento específico")
-    public ResponseEntity<EventResponseDTO> findById(@PathVariable Long id) {
-        EventResponseDTO event = eventService.findById(id);
-        return ResponseEntity.ok(event);
+    @Operation(summary = "Busca evento por ID", description = "Retorna os detalhes de um evento específico, com ETag (versão) e Last-Modified. Retorna 304 quando If-None-Match/If-Modified-Since indicam que o evento não mudou. Com includeArchived=true, também procura nos eventos arquivados")
+    public ResponseEntity<EventResponseDTO> findById(@PathVariable Long id,
+                                                     @RequestParam(defaultValue = "false") boolean includeArchived) {
+        EventResponseDTO event = includeArchived ? eventService.findByIdIncludingArchived(id) : eventService.findById(id);
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(event.getVersion()))
+                .lastModified(event.getUpdatedAt())
+                .body(event);
     }
 
     @PostMapping
@@ -55,17 +231,89 @@ public class EventController {
         return ResponseEntity.status(HttpStatus.CREATED).body(createdEvent);
     }
 
+    @PostMapping(headers = "Prefer=respond-async")
+    @Operation(summary = "Cria um evento de forma assíncrona", description = "Com Prefer: respond-async, valida o evento, reserva o ID e o coloca na fila de gravação em lote, retornando 202 com a URL de status. Com o perfil event-log, o evento é gravado no diário de ingestão antes do 202 e, se a aplicação cair antes de PERSISTED, é gravado na próxima inicialização; sem o diário, a fila fica só em memória e o 202 não é durável. Retorna 429 quando a fila está cheia")
+    public ResponseEntity<IngestStatusDTO> createAsync(@Valid @RequestBody EventRequestDTO eventDTO) {
+        IngestStatusDTO status = eventIngestQueue.submit(eventDTO);
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/events/ingest/" + status.getId()))
+                .header("Preference-Applied", "respond-async")
+                .body(status);
+    }
+
+    @GetMapping("/ingest/{id}")
+    @Operation(summary = "Status de uma criação assíncrona", description = "Retorna PENDING enquanto o evento aguarda na fila, PERSISTED após o commit ou FAILED com o motivo da falha. O status fica em memória: após um reinício, só os eventos regravados a partir do diário de ingestão voltam a ter status")
+    public ResponseEntity<IngestStatusDTO> ingestStatus(@PathVariable Long id) {
+        IngestStatusDTO status = eventIngestQueue.status(id)
+                .orElseGet(() -> IngestStatusDTO.of(eventService.findById(id).getId(), IngestStatus.PERSISTED));
+        return ResponseEntity.ok(status);
+    }
+
     @PutMapping("/{id}")
-    @Operation(summary = "Atualiza evento", description = "Atualiza os dados de um evento")
-    public ResponseEntity<Void> update(@PathVariable Long id, @Valid @RequestBody EventRequestDTO eventDTO) {
-        eventService.update(id, eventDTO);
-        return ResponseEntity.noContent().build();
+    @Operation(summary = "Atualiza evento", description = "Atualiza os dados de um evento e retorna o novo ETag. Com If-Match, a atualização só ocorre se o ETag coincidir com a versão atual; caso contrário retorna 412")
+    public ResponseEntity<Void> update(@PathVariable Long id,
+                                       @Valid @RequestBody EventRequestDTO eventDTO,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        long version = eventService.update(id, eventDTO, expectedVersion(ifMatch));
+        return ResponseEntity.noContent()
+                .eTag(String.valueOf(version))
+                .build();
     }
 
     @DeleteMapping("/{id}")
-    @Operation(summary = "Remove evento", description = "Remove um evento do sistema")
-    public ResponseEntity<Void> delete(@PathVariable Long id) {
-        eventService.delete(id);
+    @Operation(summary = "Remove evento", description = "Remove um evento do sistema. Com If-Match, a remoção só ocorre se o ETag coincidir com a versão atual; caso contrário retorna 412")
+    public ResponseEntity<Void> delete(@PathVariable Long id,
+                                       @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        eventService.delete(id, expectedVersion(ifMatch));
         return ResponseEntity.noContent().build();
     }
+
+    @PostMapping("/batch")
+    @Operation(summary = "Cria eventos em lote", description = "Valida e cria vários eventos em transações por blocos, retornando o resultado de cada item")
+    public ResponseEntity<BatchResponseDTO> createBatch(@RequestBody List<EventRequestDTO> events) {
+        return ResponseEntity.ok(eventBatchService.createAll(events));
+    }
+
+    @PutMapping("/batch")
+    @Operation(summary = "Atualiza eventos em lote", description = "Valida e atualiza vários eventos em transações por blocos, retornando o resultado de cada item")
+    public ResponseEntity<BatchResponseDTO> updateBatch(@RequestBody List<EventBatchUpdateDTO> events) {
+        return ResponseEntity.ok(eventBatchService.updateAll(events));
+    }
+
+    @DeleteMapping("/batch")
+    @Operation(summary = "Remove eventos em lote", description = "Remove (soft delete) vários eventos pelo ID, retornando o resultado de cada item")
+    public ResponseEntity<BatchResponseDTO> deleteBatch(@RequestBody List<Long> ids) {
+        return ResponseEntity.ok(eventBatchService.deleteAll(ids));
+    }
+
+    static Long expectedVersion(String ifMatch) {
+        if (ifMatch == null || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        String etag = ifMatch.trim();
+        if (etag.length() < 3 || !etag.startsWith("\"") || !etag.endsWith("\"")) {
+            throw new EventVersionConflictException("If-Match deve conter um único ETag forte, por exemplo \"3\"");
+        }
+        try {
+            return Long.valueOf(etag.substring(1, etag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new EventVersionConflictException("If-Match não corresponde a nenhuma versão do evento: " + etag);
+        }
+    }
+
+    private PageResponseDTO<EventResponseDTO> page(Pageable pageable, CountMode count, Long approximateTotal) {
+        return switch (count) {
+            case EXACT -> PageResponseDTO.of(eventService.findAll(pageable));
+            case APPROXIMATE -> PageResponseDTO.of(eventService.findSlice(pageable), approximateTotal);
+            case NONE -> PageResponseDTO.of(eventService.findSlice(pageable), null);
+        };
+    }
+
+    private void write(SequenceWriter writer, EventResponseDTO event) {
+        try {
+            writer.write(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,28 @@
+package com.example.eventsapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.*;
+
+import java.util.Map;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BatchItemResultDTO {
+    private int index;
+    private Long id;
+    private BatchItemStatus status;
+    private Map<String, String> errors;
+
+    public static BatchItemResultDTO of(int index, Long id, BatchItemStatus status) {
+        return new BatchItemResultDTO(index, id, status, null);
+    }
+
+    public boolean isSuccess() {
+        return status == BatchItemStatus.CREATED
+                || status == BatchItemStatus.UPDATED
+                || status == BatchItemStatus.DELETED;
+    }
+}
@@ -0,0 +1,11 @@
+package com.example.eventsapi.dto;
+
+public enum BatchItemStatus {
+    CREATED,
+    UPDATED,
+    DELETED,
+    INVALID,
+    NOT_FOUND,
+    CONFLICT,
+    FAILED
+}
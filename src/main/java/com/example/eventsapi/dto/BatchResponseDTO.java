@@ -0,0 +1,21 @@
+package com.example.eventsapi.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchResponseDTO {
+    private int total;
+    private int succeeded;
+    private int failed;
+    private List<BatchItemResultDTO> results;
+
+    public static BatchResponseDTO of(List<BatchItemResultDTO> results) {
+        int succeeded = (int) results.stream().filter(BatchItemResultDTO::isSuccess).count();
+        return new BatchResponseDTO(results.size(), succeeded, results.size() - succeeded, results);
+    }
+}
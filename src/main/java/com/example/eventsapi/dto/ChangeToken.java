@@ -0,0 +1,21 @@
+package com.example.eventsapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+public class ChangeToken {
+    private final Instant updatedAt;
+    private final Long id;
+
+    public String encode() {
+        return KeysetTokens.encode(updatedAt, id);
+    }
+
+    public static ChangeToken decode(String token) {
+        return KeysetTokens.decode(token, Instant::parse, ChangeToken::new);
+    }
+}
@@ -0,0 +1,7 @@
+package com.example.eventsapi.dto;
+
+public enum CountMode {
+    EXACT,
+    APPROXIMATE,
+    NONE
+}
@@ -0,0 +1,20 @@
+package com.example.eventsapi.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Setter
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPageResponseDTO<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private boolean hasNext;
+
+    public static <T> CursorPageResponseDTO<T> of(List<T> content, String nextCursor) {
+        return new CursorPageResponseDTO<>(content, content.size(), nextCursor, nextCursor != null);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.eventsapi.dto;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class EventBatchUpdateDTO extends EventRequestDTO {
+        @NotNull(message = "O ID é obrigatório")
+        private Long id;
+
+        private Long version;
+
+        public EventBatchUpdateDTO(Long id, String titulo, LocalDateTime dataHora, String local) {
+                this(id, null, titulo, dataHora, local);
+        }
+
+        public EventBatchUpdateDTO(Long id, Long version, String titulo, LocalDateTime dataHora, String local) {
+                super(titulo, dataHora, local);
+                this.id = id;
+                this.version = version;
+        }
+}
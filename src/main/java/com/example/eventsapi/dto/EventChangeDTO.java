@@ -0,0 +1,34 @@
+package com.example.eventsapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class EventChangeDTO {
+    private final EventChangeType type;
+    private final Long id;
+    private final Long version;
+    private final Instant occurredAt;
+    private final EventResponseDTO event;
+
+    public static EventChangeDTO upserted(EventChangeType type, EventResponseDTO event) {
+        return new EventChangeDTO(type, event.getId(), event.getVersion(), event.getUpdatedAt(), event);
+    }
+
+    public static EventChangeDTO deleted(Long id, Long version, Instant occurredAt) {
+        return new EventChangeDTO(EventChangeType.DELETED, id, version, occurredAt, null);
+    }
+
+    public static EventChangeDTO archived(Long id, Instant occurredAt) {
+        return new EventChangeDTO(EventChangeType.ARCHIVED, id, null, occurredAt, null);
+    }
+
+    public static EventChangeDTO purged(Long id, Instant occurredAt) {
+        return new EventChangeDTO(EventChangeType.PURGED, id, null, occurredAt, null);
+    }
+}
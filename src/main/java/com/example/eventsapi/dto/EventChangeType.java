@@ -0,0 +1,9 @@
+package com.example.eventsapi.dto;
+
+public enum EventChangeType {
+    CREATED,
+    UPDATED,
+    DELETED,
+    ARCHIVED,
+    PURGED
+}
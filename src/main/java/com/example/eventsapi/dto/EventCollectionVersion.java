@@ -0,0 +1,34 @@
+package com.example.eventsapi.dto;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+
+@Getter
+@EqualsAndHashCode
+public class EventCollectionVersion {
+    private static final String SEPARATOR = "|";
+
+    private final long rows;
+    private final Instant lastModified;
+
+    public EventCollectionVersion(Long rows, Instant lastModified) {
+        this.rows = rows == null ? 0 : rows;
+        this.lastModified = lastModified == null ? Instant.EPOCH : lastModified;
+    }
+
+    public String etag(Object... parts) {
+        StringBuilder raw = new StringBuilder().append(rows).append(SEPARATOR).append(lastModified);
+        for (Object part : parts) {
+            raw.append(SEPARATOR).append(part);
+        }
+        return "W/\"" + DigestUtils.md5DigestAsHex(raw.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    public long lastModifiedMillis() {
+        return lastModified.toEpochMilli();
+    }
+}
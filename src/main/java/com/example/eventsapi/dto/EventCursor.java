@@ -0,0 +1,21 @@
+package com.example.eventsapi.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+@Getter
+@AllArgsConstructor
+public class EventCursor {
+    private final LocalDateTime dataHora;
+    private final Long id;
+
+    public String encode() {
+        return KeysetTokens.encode(dataHora, id);
+    }
+
+    public static EventCursor decode(String cursor) {
+        return KeysetTokens.decode(cursor, LocalDateTime::parse, EventCursor::new);
+    }
+}
@@ -2,6 +2,7 @@ package com.example.eventsapi.dto;
 
 import lombok.*;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 @Getter
@@ -14,4 +15,6 @@ public class EventResponseDTO {
     private LocalDateTime dataHora;
     private String local;
     private boolean deleted;
+    private Long version;
+    private Instant updatedAt;
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.example.eventsapi.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class IngestStatusDTO {
+    private static final String NOT_DURABLE = "Aceito apenas na fila em memória; o evento é perdido se a aplicação cair antes de PERSISTED";
+    private static final String JOURNALED = "Gravado no diário de ingestão; se a aplicação cair antes de PERSISTED, o evento é gravado na próxima inicialização";
+
+    private final Long id;
+    private final IngestStatus status;
+    private final String message;
+
+    public static IngestStatusDTO of(Long id, IngestStatus status) {
+        return new IngestStatusDTO(id, status, null);
+    }
+
+    public static IngestStatusDTO pending(Long id) {
+        return new IngestStatusDTO(id, IngestStatus.PENDING, NOT_DURABLE);
+    }
+
+    public static IngestStatusDTO journaled(Long id) {
+        return new IngestStatusDTO(id, IngestStatus.PENDING, JOURNALED);
+    }
+
+    public static IngestStatusDTO failed(Long id, String message) {
+        return new IngestStatusDTO(id, IngestStatus.FAILED, message);
+    }
+}
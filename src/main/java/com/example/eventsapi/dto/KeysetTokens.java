@@ -0,0 +1,37 @@
+package com.example.eventsapi.dto;
+
+import com.example.eventsapi.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+final class KeysetTokens {
+    private static final String SEPARATOR = "|";
+
+    private KeysetTokens() {
+    }
+
+    static String encode(Object position, Long id) {
+        String raw = position + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    static <P, T> T decode(String token, Function<String, P> position, BiFunction<P, Long, T> factory) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.lastIndexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidCursorException(token);
+            }
+            return factory.apply(
+                    position.apply(raw.substring(0, separator)),
+                    Long.valueOf(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException(token);
+        }
+    }
+}
@@ -1,7 +1,9 @@
 package com.example.eventsapi.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.*;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
 
@@ -13,8 +15,10 @@ public class PageResponseDTO<T> {
     private List<T> content;
     private int page;
     private int size;
-    private long totalElements;
-    private int totalPages;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long totalElements;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer totalPages;
     private boolean first;
     private boolean last;
 
@@ -29,4 +33,20 @@ public class PageResponseDTO<T> {
                 page.isLast()
         );
     }
-}
\ No newline at end of file
+
+    public static <T> PageResponseDTO<T> of(Slice<T> slice, Long approximateTotal) {
+        Integer totalPages = null;
+        if (approximateTotal != null) {
+            totalPages = slice.getSize() == 0 ? 1 : (int) Math.ceil((double) approximateTotal / slice.getSize());
+        }
+        return new PageResponseDTO<>(
+                slice.getContent(),
+                slice.getNumber(),
+                slice.getSize(),
+                approximateTotal,
+                totalPages,
+                slice.isFirst(),
+                slice.isLast()
+        );
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.eventsapi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "events_archive", indexes = {
+        @Index(name = "idx_events_archive_deleted_data_hora_id", columnList = "deleted, data_hora, id"),
+        @Index(name = "idx_events_archive_updated_at_id", columnList = "updated_at, id"),
+        @Index(name = "idx_events_archive_archived_at_id", columnList = "archived_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+public class ArchivedEvent {
+    @Id
+    private Long id;
+
+    @Column(nullable = false, length = 100)
+    private String titulo;
+
+    @Column(nullable = false)
+    private LocalDateTime dataHora;
+
+    @Column(nullable = false, length = 200)
+    private String local;
+
+    @Column(nullable = false)
+    private boolean deleted;
+
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
+    @Column(nullable = false)
+    private Instant archivedAt;
+}
@@ -3,16 +3,23 @@ package com.example.eventsapi.entity;
 import jakarta.persistence.*;
 import lombok.*;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_deleted_data_hora_id", columnList = "deleted, data_hora, id"),
+        @Index(name = "idx_events_local", columnList = "local"),
+        @Index(name = "idx_events_updated_at_id", columnList = "updated_at, id")
+})
 @Getter
 @Setter
 @NoArgsConstructor
 public class Event {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 100)
@@ -27,9 +34,26 @@ public class Event {
     @Column(nullable = false)
     private boolean deleted = false;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(nullable = false)
+    private Instant updatedAt;
+
     public Event(String titulo, LocalDateTime dataHora, String local) {
         this.titulo = titulo;
         this.dataHora = dataHora;
         this.local = local;
     }
+
+    @PrePersist
+    @PreUpdate
+    void touch() {
+        this.updatedAt = now();
+    }
+
+    public static Instant now() {
+        return Instant.now().truncatedTo(ChronoUnit.MICROS);
+    }
 }
\ No newline at end of file
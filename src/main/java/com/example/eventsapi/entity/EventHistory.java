@@ -0,0 +1,36 @@
+package com.example.eventsapi.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.Subselect;
+import org.hibernate.annotations.Synchronize;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+@Entity
+@Immutable
+@Subselect("select id, titulo, data_hora, local, deleted, version, updated_at from events "
+        + "union all select id, titulo, data_hora, local, deleted, version, updated_at from events_archive")
+@Synchronize({"events", "events_archive"})
+@Getter
+@NoArgsConstructor
+public class EventHistory {
+    @Id
+    private Long id;
+
+    private String titulo;
+
+    private LocalDateTime dataHora;
+
+    private String local;
+
+    private boolean deleted;
+
+    private Long version;
+
+    private Instant updatedAt;
+}
@@ -0,0 +1,21 @@
+package com.example.eventsapi.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.Instant;
+
+@Entity
+@Table(name = "sync_horizon")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncHorizon {
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Instant tombstonesRemovedUpTo;
+}
@@ -0,0 +1,7 @@
+package com.example.eventsapi.exception;
+
+public class BatchTooLargeException extends RuntimeException {
+    public BatchTooLargeException(int size, int maxItems) {
+        super("O lote possui " + size + " itens; o máximo permitido é " + maxItems);
+    }
+}
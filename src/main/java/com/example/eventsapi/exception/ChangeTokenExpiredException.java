@@ -0,0 +1,7 @@
+package com.example.eventsapi.exception;
+
+public class ChangeTokenExpiredException extends RuntimeException {
+    public ChangeTokenExpiredException(String token) {
+        super("Token de sincronização expirado: " + token + ". Remoções posteriores a ele já foram expurgadas; refaça a sincronização completa");
+    }
+}
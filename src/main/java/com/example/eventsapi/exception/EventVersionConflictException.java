@@ -0,0 +1,18 @@
+package com.example.eventsapi.exception;
+
+import lombok.Getter;
+
+@Getter
+public class EventVersionConflictException extends RuntimeException {
+    private final Long currentVersion;
+
+    public EventVersionConflictException(String message) {
+        super(message);
+        this.currentVersion = null;
+    }
+
+    public EventVersionConflictException(Long id, Long expectedVersion, Long currentVersion) {
+        super("Evento com ID " + id + " está na versão " + currentVersion + ", mas a versão esperada era " + expectedVersion);
+        this.currentVersion = currentVersion;
+    }
+}
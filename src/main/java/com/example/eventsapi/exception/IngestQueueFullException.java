@@ -0,0 +1,7 @@
+package com.example.eventsapi.exception;
+
+public class IngestQueueFullException extends RuntimeException {
+    public IngestQueueFullException(int capacity) {
+        super("A fila de ingestão está cheia (" + capacity + " eventos); tente novamente em instantes");
+    }
+}
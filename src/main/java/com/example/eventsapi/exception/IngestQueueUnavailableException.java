@@ -0,0 +1,7 @@
+package com.example.eventsapi.exception;
+
+public class IngestQueueUnavailableException extends RuntimeException {
+    public IngestQueueUnavailableException() {
+        super("A fila de ingestão não está aceitando eventos no momento; tente novamente em instantes");
+    }
+}
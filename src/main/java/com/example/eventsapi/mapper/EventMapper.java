@@ -3,9 +3,12 @@ package com.example.eventsapi.mapper;
 
 import com.example.eventsapi.dto.EventRequestDTO;
 import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.entity.ArchivedEvent;
 import com.example.eventsapi.entity.Event;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+
 @Component
 public class EventMapper {
 
@@ -19,7 +22,33 @@ public class EventMapper {
                 entity.getTitulo(),
                 entity.getDataHora(),
                 entity.getLocal(),
-                entity.isDeleted()
+                entity.isDeleted(),
+                entity.getVersion(),
+                entity.getUpdatedAt()
+        );
+    }
+
+    public EventResponseDTO toArchivedChangeDTO(ArchivedEvent entity) {
+        return new EventResponseDTO(
+                entity.getId(),
+                entity.getTitulo(),
+                entity.getDataHora(),
+                entity.getLocal(),
+                true,
+                entity.getVersion(),
+                entity.getArchivedAt()
+        );
+    }
+
+    public EventResponseDTO toResponseDTO(Long id, EventRequestDTO dto, Long version, Instant updatedAt) {
+        return new EventResponseDTO(
+                id,
+                dto.getTitulo(),
+                dto.getDataHora(),
+                dto.getLocal(),
+                false,
+                version,
+                updatedAt
         );
     }
 
@@ -0,0 +1,36 @@
+package com.example.eventsapi.repository;
+
+import com.example.eventsapi.entity.ArchivedEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ArchivedEventRepository extends JpaRepository<ArchivedEvent, Long> {
+
+    @Modifying
+    @Query(value = "insert into events_archive (id, titulo, data_hora, local, deleted, version, updated_at, archived_at) "
+            + "select id, titulo, data_hora, local, deleted, version, updated_at, :archivedAt from events where id in :ids",
+            nativeQuery = true)
+    int copyFromEvents(@Param("ids") Collection<Long> ids, @Param("archivedAt") Instant archivedAt);
+
+    @Query("select a.id from ArchivedEvent a where a.deleted = true and a.updatedAt < :before order by a.id")
+    List<Long> findPurgeableIds(@Param("before") Instant before, Pageable pageable);
+
+    @Query("select a from ArchivedEvent a where a.deleted = false and a.archivedAt <= :until order by a.archivedAt, a.id")
+    List<ArchivedEvent> findFirstArchivedChangesPage(@Param("until") Instant until, Pageable pageable);
+
+    @Query("select a from ArchivedEvent a where a.deleted = false and a.archivedAt >= :archivedAt and a.archivedAt <= :until "
+            + "and (a.archivedAt, a.id) > (:archivedAt, :id) order by a.archivedAt, a.id")
+    List<ArchivedEvent> findArchivedChangesAfter(@Param("archivedAt") Instant archivedAt,
+                                                 @Param("id") Long id,
+                                                 @Param("until") Instant until,
+                                                 Pageable pageable);
+}
@@ -0,0 +1,27 @@
+package com.example.eventsapi.repository;
+
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.entity.EventHistory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface EventHistoryRepository extends org.springframework.data.repository.Repository<EventHistory, Long> {
+    String SELECT_RESPONSE = "select new com.example.eventsapi.dto.EventResponseDTO(e.id, e.titulo, e.dataHora, e.local, e.deleted, e.version, e.updatedAt) from EventHistory e ";
+
+    @Query(value = SELECT_RESPONSE + "where e.deleted = false",
+            countQuery = "select count(e) from EventHistory e where e.deleted = false")
+    Page<EventResponseDTO> findByDeletedFalse(Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "where e.deleted = false")
+    Slice<EventResponseDTO> findSliceByDeletedFalse(Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "where e.id = :id and e.deleted = false")
+    Optional<EventResponseDTO> findByIdAndDeletedFalse(@Param("id") Long id);
+}
@@ -0,0 +1,394 @@
+package com.example.eventsapi.repository;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.zip.CRC32;
+
+@Slf4j
+public class EventLogStore implements Closeable {
+    private static final int MAGIC = 0x45564C47;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HORIZON_OFFSET = 8;
+    private static final int FILE_HEADER = 16;
+    private static final int RECORD_HEADER = 8;
+    private static final int FIXED_PAYLOAD = 1 + 5 * Long.BYTES;
+    private static final byte DELETED = 1;
+    private static final byte ARCHIVED = 2;
+    private static final byte PURGED = 4;
+
+    private final Path path;
+    private final int growSize;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private FileChannel channel;
+    private MappedByteBuffer buffer;
+    private NavigableMap<Long, Integer> index = new TreeMap<>();
+    private int position;
+    private long liveBytes;
+
+    public EventLogStore(Path path, int initialSize) throws IOException {
+        this.path = path;
+        this.growSize = Math.max(initialSize, 4096);
+        Path parent = path.toAbsolutePath().getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        this.channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long size = Math.max(channel.size(), growSize);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Log de eventos maior que 2 GB: " + path);
+        }
+        this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        if (buffer.getInt(0) == 0) {
+            buffer.putInt(0, MAGIC);
+            buffer.putInt(4, FORMAT_VERSION);
+        } else if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != FORMAT_VERSION) {
+            throw new IllegalStateException("Arquivo não é um log de eventos válido: " + path);
+        }
+        recover();
+    }
+
+    public record Entry(long id,
+                        long version,
+                        String titulo,
+                        LocalDateTime dataHora,
+                        String local,
+                        boolean deleted,
+                        boolean archived,
+                        Instant updatedAt,
+                        Instant loggedAt) {
+    }
+
+    /**
+     * Skips entries older than the indexed version, since listeners of concurrent transactions can run out of commit order.
+     */
+    public boolean append(Entry entry) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = index.get(entry.id());
+            if (previous != null && buffer.getLong(previous + RECORD_HEADER + 1 + Long.BYTES) > entry.version()) {
+                return false;
+            }
+            write(entry, (byte) 0, previous);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Moves the horizon up to the last change of the removed event, so /changes keeps rejecting older tokens after a restore.
+     */
+    public boolean purge(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer previous = index.get(id);
+            if (previous == null) {
+                return false;
+            }
+            Entry entry = read(buffer, previous);
+            buffer.putLong(HORIZON_OFFSET, Math.max(buffer.getLong(HORIZON_OFFSET), toMicros(entry.updatedAt())));
+            write(entry, PURGED, previous);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Puts back the entry a rolled-back change replaced, ignoring its version; a null entry removes the event again.
+     */
+    public void revert(long id, Entry previous) {
+        lock.writeLock().lock();
+        try {
+            if (previous != null) {
+                write(previous, (byte) 0, index.get(id));
+            } else {
+                remove(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Drops the entry without moving the horizon.
+     */
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            Integer current = index.get(id);
+            if (current == null) {
+                return false;
+            }
+            write(read(buffer, current), PURGED, current);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<Entry> find(long id) {
+        lock.readLock().lock();
+        try {
+            Integer offset = index.get(id);
+            return offset == null ? Optional.empty() : Optional.of(read(buffer, offset));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reads outside the lock, since records are never rewritten in place and compaction maps a new file.
+     */
+    public void scan(Consumer<Entry> consumer) {
+        ByteBuffer snapshot;
+        int[] offsets;
+        lock.readLock().lock();
+        try {
+            snapshot = buffer;
+            offsets = index.values().stream().mapToInt(Integer::intValue).toArray();
+        } finally {
+            lock.readLock().unlock();
+        }
+        for (int offset : offsets) {
+            consumer.accept(read(snapshot, offset));
+        }
+    }
+
+    /**
+     * Moves the horizon up to the newest dropped record, so /changes keeps rejecting older tokens after a restore.
+     */
+    public int compact(Predicate<Entry> keep) throws IOException {
+        lock.writeLock().lock();
+        try {
+            Path compacted = path.resolveSibling(path.getFileName() + ".compact");
+            FileChannel target = FileChannel.open(compacted, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                    StandardOpenOption.READ, StandardOpenOption.WRITE);
+            long size = Math.max(FILE_HEADER + liveBytes + RECORD_HEADER, growSize);
+            MappedByteBuffer mapped = target.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            mapped.putInt(0, MAGIC);
+            mapped.putInt(4, FORMAT_VERSION);
+
+            NavigableMap<Long, Integer> compactedIndex = new TreeMap<>();
+            int offset = FILE_HEADER;
+            int dropped = 0;
+            long horizon = buffer.getLong(HORIZON_OFFSET);
+            for (var record : index.entrySet()) {
+                Entry entry = read(buffer, record.getValue());
+                if (!keep.test(entry)) {
+                    dropped++;
+                    horizon = Math.max(horizon, toMicros(entry.updatedAt()));
+                    continue;
+                }
+                int recordSize = recordSize(buffer, record.getValue());
+                mapped.put(offset, buffer, record.getValue(), recordSize);
+                compactedIndex.put(record.getKey(), offset);
+                offset += recordSize;
+            }
+            mapped.putLong(HORIZON_OFFSET, horizon);
+            mapped.force();
+            Files.move(compacted, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+            log.info("Log de eventos compactado: {} -> {} bytes, {} eventos descartados", position, offset, dropped);
+            channel.close();
+            channel = target;
+            buffer = mapped;
+            index = compactedIndex;
+            position = offset;
+            liveBytes = offset - FILE_HEADER;
+            return dropped;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Instant horizon() {
+        lock.readLock().lock();
+        try {
+            return fromMicros(buffer.getLong(HORIZON_OFFSET));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public double garbageRatio() {
+        lock.readLock().lock();
+        try {
+            int used = position - FILE_HEADER;
+            return used == 0 ? 0 : 1 - (double) liveBytes / used;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public void force() {
+        lock.readLock().lock();
+        try {
+            buffer.force();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            buffer.force();
+            channel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void recover() {
+        int offset = FILE_HEADER;
+        int capacity = buffer.capacity();
+        while (offset + RECORD_HEADER <= capacity) {
+            int length = buffer.getInt(offset);
+            if (length < FIXED_PAYLOAD || length > capacity - offset - RECORD_HEADER
+                    || buffer.getInt(offset + Integer.BYTES) != crc(buffer, offset + RECORD_HEADER, length)) {
+                break;
+            }
+            long id = buffer.getLong(offset + RECORD_HEADER + 1);
+            boolean purged = (buffer.get(offset + RECORD_HEADER) & PURGED) != 0;
+            Integer previous = purged ? index.remove(id) : index.put(id, offset);
+            liveBytes += (purged ? 0 : RECORD_HEADER + length) - (previous == null ? 0 : recordSize(buffer, previous));
+            offset += RECORD_HEADER + length;
+        }
+        position = offset;
+        if (offset + Integer.BYTES <= capacity && buffer.getInt(offset) != 0) {
+            log.warn("Registro incompleto ou corrompido no log de eventos na posição {}; descartando o restante do arquivo", offset);
+            for (int p = offset; p < capacity; p++) {
+                buffer.put(p, (byte) 0);
+            }
+        }
+        log.info("Log de eventos {} aberto com {} eventos ({} bytes)", path, index.size(), position);
+    }
+
+    private void write(Entry entry, byte flags, Integer previous) {
+        byte[] titulo = entry.titulo().getBytes(StandardCharsets.UTF_8);
+        byte[] local = entry.local().getBytes(StandardCharsets.UTF_8);
+        int length = FIXED_PAYLOAD + Short.BYTES + titulo.length + Short.BYTES + local.length;
+        ensureCapacity(position + RECORD_HEADER + length + RECORD_HEADER);
+        int offset = position;
+        int p = offset + RECORD_HEADER;
+        buffer.put(p, (byte) (flags | (entry.deleted() ? DELETED : 0) | (entry.archived() ? ARCHIVED : 0)));
+        p += 1;
+        buffer.putLong(p, entry.id());
+        buffer.putLong(p += Long.BYTES, entry.version());
+        buffer.putLong(p += Long.BYTES, toMicros(entry.dataHora()));
+        buffer.putLong(p += Long.BYTES, toMicros(entry.updatedAt()));
+        buffer.putLong(p += Long.BYTES, toMicros(entry.loggedAt()));
+        p += Long.BYTES;
+        buffer.putShort(p, (short) titulo.length);
+        buffer.put(p += Short.BYTES, titulo);
+        buffer.putShort(p += titulo.length, (short) local.length);
+        buffer.put(p += Short.BYTES, local);
+        buffer.putInt(offset + Integer.BYTES, crc(buffer, offset + RECORD_HEADER, length));
+        buffer.putInt(offset, length);
+
+        position = offset + RECORD_HEADER + length;
+        int replaced = previous == null ? 0 : recordSize(buffer, previous);
+        if ((flags & PURGED) != 0) {
+            index.remove(entry.id());
+            liveBytes -= replaced;
+        } else {
+            index.put(entry.id(), offset);
+            liveBytes += RECORD_HEADER + length - replaced;
+        }
+    }
+
+    private void ensureCapacity(long required) {
+        if (required <= buffer.capacity()) {
+            return;
+        }
+        long size = Math.max(required, (long) buffer.capacity() + growSize);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalStateException("Log de eventos atingiu o limite de 2 GB; compacte ou arquive os eventos");
+        }
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        } catch (IOException e) {
+            throw new IllegalStateException("Não foi possível ampliar o log de eventos " + path, e);
+        }
+    }
+
+    private static Entry read(ByteBuffer buffer, int offset) {
+        int p = offset + RECORD_HEADER;
+        byte flags = buffer.get(p);
+        p += 1;
+        long id = buffer.getLong(p);
+        long version = buffer.getLong(p += Long.BYTES);
+        long dataHora = buffer.getLong(p += Long.BYTES);
+        long updatedAt = buffer.getLong(p += Long.BYTES);
+        long loggedAt = buffer.getLong(p += Long.BYTES);
+        p += Long.BYTES;
+        int tituloLength = buffer.getShort(p);
+        String titulo = string(buffer, p += Short.BYTES, tituloLength);
+        int localLength = buffer.getShort(p += tituloLength);
+        String local = string(buffer, p + Short.BYTES, localLength);
+        return new Entry(id, version, titulo,
+                LocalDateTime.ofEpochSecond(Math.floorDiv(dataHora, 1_000_000L), (int) Math.floorMod(dataHora, 1_000_000L) * 1000, ZoneOffset.UTC),
+                local, (flags & DELETED) != 0, (flags & ARCHIVED) != 0,
+                fromMicros(updatedAt), fromMicros(loggedAt));
+    }
+
+    private static String string(ByteBuffer buffer, int offset, int length) {
+        byte[] bytes = new byte[length];
+        buffer.get(offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static int recordSize(ByteBuffer buffer, int offset) {
+        return RECORD_HEADER + buffer.getInt(offset);
+    }
+
+    private static int crc(ByteBuffer buffer, int offset, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(buffer.slice(offset, length));
+        return (int) crc.getValue();
+    }
+
+    private static long toMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + dateTime.getNano() / 1000;
+    }
+
+    private static long toMicros(Instant instant) {
+        return ChronoUnit.MICROS.between(Instant.EPOCH, instant);
+    }
+
+    private static Instant fromMicros(long micros) {
+        return Instant.EPOCH.plus(micros, ChronoUnit.MICROS);
+    }
+}
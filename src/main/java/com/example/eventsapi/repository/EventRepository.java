@@ -1,20 +1,119 @@
 package com.example.eventsapi.repository;
 
+import com.example.eventsapi.dto.EventCollectionVersion;
+import com.example.eventsapi.dto.EventResponseDTO;
 import com.example.eventsapi.entity.Event;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
-public interface EventRepository extends JpaRepository<Event, Long> {
-    List<Event> findByDeletedFalse();
+public interface EventRepository extends JpaRepository<Event, Long>, EventWriteRepository {
+    String SELECT_RESPONSE = "select new com.example.eventsapi.dto.EventResponseDTO(e.id, e.titulo, e.dataHora, e.local, e.deleted, e.version, e.updatedAt) from Event e ";
 
-    Page<Event> findByDeletedFalse(Pageable pageable);
+    @Query(SELECT_RESPONSE + "where e.deleted = false")
+    List<EventResponseDTO> findByDeletedFalse();
 
-    Optional<Event> findByIdAndDeletedFalse(Long id);
+    @Query(value = SELECT_RESPONSE + "where e.deleted = false",
+            countQuery = "select count(e) from Event e where e.deleted = false")
+    Page<EventResponseDTO> findByDeletedFalse(Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "where e.deleted = false")
+    Slice<EventResponseDTO> findSliceByDeletedFalse(Pageable pageable);
+
+    @Query("select count(e) from Event e where e.deleted = false")
+    long countByDeletedFalse();
+
+    @Query("select new com.example.eventsapi.dto.EventCollectionVersion(count(e), max(e.updatedAt)) from Event e")
+    EventCollectionVersion findCollectionVersion();
+
+    @Query(SELECT_RESPONSE + "where e.id = :id and e.deleted = false")
+    Optional<EventResponseDTO> findByIdAndDeletedFalse(@Param("id") Long id);
+
+    List<Event> findByIdInAndDeletedFalse(Collection<Long> ids);
+
+    @Query(SELECT_RESPONSE + "where e.id in :ids and e.deleted = false")
+    List<EventResponseDTO> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("select e.id from Event e where e.id in :ids and e.deleted = false")
+    List<Long> findActiveIds(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update Event e set e.titulo = :titulo, e.dataHora = :dataHora, e.local = :local, e.version = e.version + 1, e.updatedAt = :now where e.id = :id and e.version = :version and e.deleted = false")
+    int updateByIdAndVersion(@Param("id") Long id,
+                             @Param("version") Long version,
+                             @Param("titulo") String titulo,
+                             @Param("dataHora") LocalDateTime dataHora,
+                             @Param("local") String local,
+                             @Param("now") Instant now);
+
+    @Modifying
+    @Query("update Event e set e.deleted = true, e.version = e.version + 1, e.updatedAt = :now where e.id = :id and e.version = :version and e.deleted = false")
+    int softDeleteByIdAndVersion(@Param("id") Long id, @Param("version") Long version, @Param("now") Instant now);
+
+    @Query("select e.version from Event e where e.id = :id and e.deleted = false")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    @Modifying
+    @Query("update Event e set e.deleted = true, e.version = e.version + 1, e.updatedAt = :now where e.id in :ids and e.deleted = false")
+    int softDeleteAllByIdIn(@Param("ids") Collection<Long> ids, @Param("now") Instant now);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select e.id from Event e where e.dataHora < :pastBefore or (e.deleted = true and e.updatedAt < :deletedBefore) order by e.id")
+    List<Long> findArchivableIds(@Param("pastBefore") LocalDateTime pastBefore,
+                                 @Param("deletedBefore") Instant deletedBefore,
+                                 Pageable pageable);
+
+    @Query("select e.id from Event e where e.deleted = true and e.updatedAt < :before order by e.id")
+    List<Long> findPurgeableIds(@Param("before") Instant before, Pageable pageable);
+
+    @Query("select max(e.updatedAt) from Event e where e.id in :ids and e.deleted = true")
+    Instant findMaxDeletedUpdatedAt(@Param("ids") Collection<Long> ids);
+
+    @Query(SELECT_RESPONSE + "where e.deleted = false order by e.dataHora, e.id")
+    List<EventResponseDTO> findFirstKeysetPage(Pageable pageable);
+
+    @Query(SELECT_RESPONSE + "where e.deleted = false and e.dataHora >= :dataHora and (e.dataHora, e.id) > (:dataHora, :id) order by e.dataHora, e.id")
+    List<EventResponseDTO> findKeysetPageAfter(@Param("dataHora") LocalDateTime dataHora, @Param("id") Long id, Pageable pageable);
+
+    @Query("select e from Event e where e.updatedAt <= :until order by e.updatedAt, e.id")
+    List<Event> findFirstChangesPage(@Param("until") Instant until, Pageable pageable);
+
+    @Query("select e from Event e where e.updatedAt >= :updatedAt and e.updatedAt <= :until and (e.updatedAt, e.id) > (:updatedAt, :id) order by e.updatedAt, e.id")
+    List<Event> findChangesAfter(@Param("updatedAt") Instant updatedAt,
+                                 @Param("id") Long id,
+                                 @Param("until") Instant until,
+                                 Pageable pageable);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select e from Event e where e.deleted = false order by e.id")
+    Stream<Event> streamByDeletedFalse();
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select e from Event e where e.deleted = false and e.dataHora >= :from order by e.dataHora, e.id")
+    Stream<Event> streamUpcoming(@Param("from") LocalDateTime from);
 
 }
@@ -0,0 +1,20 @@
+package com.example.eventsapi.repository;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface EventWriteRepository {
+
+    /**
+     * Updates an active event regardless of its version and returns the new version from the same statement;
+     * empty if the event does not exist or is deleted.
+     */
+    Optional<Long> updateReturningVersion(Long id, String titulo, LocalDateTime dataHora, String local, Instant now);
+
+    /**
+     * Soft-deletes an active event regardless of its version and returns the new version from the same statement;
+     * empty if the event does not exist or is already deleted.
+     */
+    Optional<Long> softDeleteReturningVersion(Long id, Instant now);
+}
@@ -0,0 +1,45 @@
+package com.example.eventsapi.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.jdbc.support.KeyHolder;
+
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class EventWriteRepositoryImpl implements EventWriteRepository {
+    private static final String UPDATE = "UPDATE events SET titulo = ?, data_hora = ?, local = ?, version = version + 1, updated_at = ? "
+            + "WHERE id = ? AND deleted = FALSE";
+    private static final String SOFT_DELETE = "UPDATE events SET deleted = TRUE, version = version + 1, updated_at = ? "
+            + "WHERE id = ? AND deleted = FALSE";
+    private static final String[] VERSION = {"version"};
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<Long> updateReturningVersion(Long id, String titulo, LocalDateTime dataHora, String local, Instant now) {
+        return returningVersion(UPDATE, titulo, Timestamp.valueOf(dataHora), local, Timestamp.from(now), id);
+    }
+
+    @Override
+    public Optional<Long> softDeleteReturningVersion(Long id, Instant now) {
+        return returningVersion(SOFT_DELETE, Timestamp.from(now), id);
+    }
+
+    private Optional<Long> returningVersion(String sql, Object... args) {
+        KeyHolder keyHolder = new GeneratedKeyHolder();
+        int updated = jdbcTemplate.update(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql, VERSION);
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, keyHolder);
+        return updated == 0 ? Optional.empty() : Optional.of(keyHolder.getKeyAs(Long.class));
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.eventsapi.repository;
+
+import com.example.eventsapi.entity.SyncHorizon;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.Optional;
+
+@Repository
+public interface SyncHorizonRepository extends JpaRepository<SyncHorizon, Integer> {
+
+    @Query("select h.tombstonesRemovedUpTo from SyncHorizon h where h.id = " + SyncHorizon.ID)
+    Optional<Instant> findTombstoneHorizon();
+
+    @Modifying
+    @Query("update SyncHorizon h set h.tombstonesRemovedUpTo = :upTo "
+            + "where h.id = " + SyncHorizon.ID + " and h.tombstonesRemovedUpTo < :upTo")
+    int advanceTombstoneHorizon(@Param("upTo") Instant upTo);
+}
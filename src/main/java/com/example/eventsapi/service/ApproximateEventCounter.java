@@ -0,0 +1,33 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApproximateEventCounter {
+    private static final long UNKNOWN = -1;
+
+    private final EventRepository eventRepository;
+    private final AtomicLong count = new AtomicLong(UNKNOWN);
+
+    @Scheduled(fixedDelayString = "${events.count.refresh-interval:PT30S}")
+    public void refresh() {
+        long total = eventRepository.countByDeletedFalse();
+        count.set(total);
+        log.debug("Contagem aproximada de eventos atualizada: {}", total);
+    }
+
+    public long get() {
+        if (count.get() == UNKNOWN) {
+            refresh();
+        }
+        return count.get();
+    }
+}
@@ -0,0 +1,113 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.config.CacheConfig;
+import com.example.eventsapi.dto.EventChangeDTO;
+import com.example.eventsapi.entity.Event;
+import com.example.eventsapi.repository.ArchivedEventRepository;
+import com.example.eventsapi.repository.EventRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@Service
+@Timed(value = "events.service", histogram = true)
+public class EventArchiveService {
+    private final EventRepository eventRepository;
+    private final ArchivedEventRepository archivedEventRepository;
+    private final EventSyncService eventSyncService;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache eventsCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Duration pastAge;
+    private final Duration tombstoneAge;
+    private final int batchSize;
+    private final int maxRows;
+    private final Duration pause;
+
+    public EventArchiveService(EventRepository eventRepository,
+                               ArchivedEventRepository archivedEventRepository,
+                               EventSyncService eventSyncService,
+                               PlatformTransactionManager transactionManager,
+                               CacheManager cacheManager,
+                               ApplicationEventPublisher eventPublisher,
+                               @Value("${events.archive.past-age}") Duration pastAge,
+                               @Value("${events.archive.tombstone-age}") Duration tombstoneAge,
+                               @Value("${events.archive.batch-size}") int batchSize,
+                               @Value("${events.archive.max-rows}") int maxRows,
+                               @Value("${events.archive.pause}") Duration pause) {
+        this.eventRepository = eventRepository;
+        this.archivedEventRepository = archivedEventRepository;
+        this.eventSyncService = eventSyncService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventsCache = cacheManager.getCache(CacheConfig.EVENTS_CACHE);
+        this.eventPublisher = eventPublisher;
+        this.pastAge = pastAge;
+        this.tombstoneAge = tombstoneAge;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+        this.pause = pause;
+    }
+
+    @Scheduled(initialDelayString = "${events.archive.interval}", fixedDelayString = "${events.archive.interval}")
+    public void archive() {
+        archive(LocalDateTime.now(), Event.now());
+    }
+
+    public int archive(LocalDateTime now, Instant instant) {
+        LocalDateTime pastBefore = now.minus(pastAge);
+        Instant deletedBefore = instant.minus(tombstoneAge);
+        int total = 0;
+        while (total < maxRows) {
+            int limit = Math.min(batchSize, maxRows - total);
+            int moved = transactionTemplate.execute(status -> moveBatch(pastBefore, deletedBefore, instant, limit));
+            total += moved;
+            if (moved < limit || total >= maxRows || !pause()) {
+                break;
+            }
+        }
+        if (total > 0) {
+            log.info("{} eventos movidos para o arquivo (data anterior a {} ou removidos antes de {})", total, pastBefore, deletedBefore);
+        }
+        return total;
+    }
+
+    private int moveBatch(LocalDateTime pastBefore, Instant deletedBefore, Instant archivedAt, int limit) {
+        List<Long> ids = eventRepository.findArchivableIds(pastBefore, deletedBefore, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        archivedEventRepository.copyFromEvents(ids, archivedAt);
+        eventSyncService.tombstonesRemoved(eventRepository.findMaxDeletedUpdatedAt(ids));
+        eventRepository.deleteAllByIdInBatch(ids);
+        ids.forEach(id -> {
+            eventsCache.evict(id);
+            eventPublisher.publishEvent(EventChangeDTO.archived(id, archivedAt));
+        });
+        log.debug("Lote de {} eventos arquivado", ids.size());
+        return ids.size();
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,282 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.config.CacheConfig;
+import com.example.eventsapi.dto.BatchItemResultDTO;
+import com.example.eventsapi.dto.BatchItemStatus;
+import com.example.eventsapi.dto.BatchResponseDTO;
+import com.example.eventsapi.dto.EventBatchUpdateDTO;
+import com.example.eventsapi.dto.EventChangeDTO;
+import com.example.eventsapi.dto.EventChangeType;
+import com.example.eventsapi.dto.EventRequestDTO;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.entity.Event;
+import com.example.eventsapi.exception.BatchTooLargeException;
+import com.example.eventsapi.mapper.EventMapper;
+import com.example.eventsapi.repository.EventRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@Timed(value = "events.service", histogram = true)
+public class EventBatchService {
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final Cache eventsCache;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int maxItems;
+
+    public EventBatchService(EventRepository eventRepository,
+                             EventMapper eventMapper,
+                             Validator validator,
+                             PlatformTransactionManager transactionManager,
+                             CacheManager cacheManager,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${events.batch.chunk-size}") int chunkSize,
+                             @Value("${events.batch.max-items}") int maxItems) {
+        this.eventRepository = eventRepository;
+        this.eventMapper = eventMapper;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventsCache = cacheManager.getCache(CacheConfig.EVENTS_CACHE);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.maxItems = maxItems;
+    }
+
+    public BatchResponseDTO createAll(List<EventRequestDTO> requests) {
+        checkSize(requests.size());
+        log.info("Criando lote de {} eventos", requests.size());
+        BatchItemResultDTO[] results = new BatchItemResultDTO[requests.size()];
+        List<Integer> valid = validate(requests, results);
+
+        for (List<Integer> chunk : chunks(valid)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    List<Event> events = chunk.stream()
+                            .map(index -> eventMapper.toEntity(requests.get(index)))
+                            .collect(Collectors.toList());
+                    eventRepository.saveAll(events);
+                    for (int i = 0; i < chunk.size(); i++) {
+                        Event event = events.get(i);
+                        EventResponseDTO created = eventMapper.toResponseDTO(event);
+                        eventsCache.put(event.getId(), created);
+                        eventPublisher.publishEvent(EventChangeDTO.upserted(EventChangeType.CREATED, created));
+                        results[chunk.get(i)] = BatchItemResultDTO.of(chunk.get(i), event.getId(), BatchItemStatus.CREATED);
+                    }
+                });
+            } catch (DataAccessException e) {
+                markFailed(chunk, results, index -> null, e);
+            }
+        }
+        return finish("criados", results);
+    }
+
+    public BatchResponseDTO updateAll(List<EventBatchUpdateDTO> requests) {
+        checkSize(requests.size());
+        log.info("Atualizando lote de {} eventos", requests.size());
+        BatchItemResultDTO[] results = new BatchItemResultDTO[requests.size()];
+        List<Integer> valid = rejectDuplicates(validate(requests, results), index -> requests.get(index).getId(), results);
+
+        for (List<Integer> chunk : chunks(valid)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> updateChunk(requests, chunk, results));
+            } catch (OptimisticLockingFailureException e) {
+                log.warn("Conflito de versão no lote; repetindo os {} itens do bloco individualmente", chunk.size());
+                chunk.forEach(index -> updateOne(requests.get(index), index, results));
+            } catch (DataAccessException e) {
+                markFailed(chunk, results, index -> requests.get(index).getId(), e);
+            }
+        }
+        return finish("atualizados", results);
+    }
+
+    private void updateChunk(List<EventBatchUpdateDTO> requests, List<Integer> chunk, BatchItemResultDTO[] results) {
+        Set<Long> ids = chunk.stream().map(index -> requests.get(index).getId()).collect(Collectors.toSet());
+        Map<Long, Event> found = eventRepository.findByIdInAndDeletedFalse(ids).stream()
+                .collect(Collectors.toMap(Event::getId, Function.identity()));
+        List<Event> updated = new ArrayList<>();
+        for (Integer index : chunk) {
+            EventBatchUpdateDTO request = requests.get(index);
+            Event event = found.get(request.getId());
+            if (event == null) {
+                results[index] = BatchItemResultDTO.of(index, request.getId(), BatchItemStatus.NOT_FOUND);
+                continue;
+            }
+            if (request.getVersion() != null && !request.getVersion().equals(event.getVersion())) {
+                results[index] = BatchItemResultDTO.of(index, event.getId(), BatchItemStatus.CONFLICT);
+                continue;
+            }
+            eventMapper.updateEntity(event, request);
+            updated.add(event);
+            results[index] = BatchItemResultDTO.of(index, event.getId(), BatchItemStatus.UPDATED);
+        }
+        eventRepository.flush();
+        for (Event event : updated) {
+            EventResponseDTO response = eventMapper.toResponseDTO(event);
+            eventsCache.put(event.getId(), response);
+            eventPublisher.publishEvent(EventChangeDTO.upserted(EventChangeType.UPDATED, response));
+        }
+    }
+
+    private void updateOne(EventBatchUpdateDTO request, int index, BatchItemResultDTO[] results) {
+        try {
+            results[index] = transactionTemplate.execute(status -> {
+                Long id = request.getId();
+                Instant now = Event.now();
+                Long version = request.getVersion();
+                Optional<Long> newVersion = version == null
+                        ? eventRepository.updateReturningVersion(id, request.getTitulo(), request.getDataHora(), request.getLocal(), now)
+                        : updateVersioned(request, version, now);
+                if (newVersion.isEmpty()) {
+                    BatchItemStatus itemStatus = version != null && eventRepository.findVersionById(id).isPresent()
+                            ? BatchItemStatus.CONFLICT : BatchItemStatus.NOT_FOUND;
+                    return BatchItemResultDTO.of(index, id, itemStatus);
+                }
+                EventResponseDTO response = eventMapper.toResponseDTO(id, request, newVersion.get(), now);
+                eventsCache.put(id, response);
+                eventPublisher.publishEvent(EventChangeDTO.upserted(EventChangeType.UPDATED, response));
+                return BatchItemResultDTO.of(index, id, BatchItemStatus.UPDATED);
+            });
+        } catch (DataAccessException e) {
+            markFailed(List.of(index), results, ignored -> request.getId(), e);
+        }
+    }
+
+    private Optional<Long> updateVersioned(EventBatchUpdateDTO request, long version, Instant now) {
+        int updated = eventRepository.updateByIdAndVersion(request.getId(), version,
+                request.getTitulo(), request.getDataHora(), request.getLocal(), now);
+        return updated == 0 ? Optional.empty() : Optional.of(version + 1);
+    }
+
+    public BatchResponseDTO deleteAll(List<Long> ids) {
+        checkSize(ids.size());
+        log.info("Removendo lote de {} eventos", ids.size());
+        BatchItemResultDTO[] results = new BatchItemResultDTO[ids.size()];
+        List<Integer> valid = new ArrayList<>();
+        for (int index = 0; index < ids.size(); index++) {
+            if (ids.get(index) == null) {
+                results[index] = new BatchItemResultDTO(index, null, BatchItemStatus.INVALID, Map.of("id", "O ID é obrigatório"));
+            } else {
+                valid.add(index);
+            }
+        }
+        valid = rejectDuplicates(valid, ids::get, results);
+
+        for (List<Integer> chunk : chunks(valid)) {
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    Set<Long> requested = chunk.stream().map(ids::get).collect(Collectors.toSet());
+                    Set<Long> active = new HashSet<>(eventRepository.findActiveIds(requested));
+                    Instant now = Event.now();
+                    if (!active.isEmpty()) {
+                        eventRepository.softDeleteAllByIdIn(active, now);
+                    }
+                    for (Integer index : chunk) {
+                        Long id = ids.get(index);
+                        if (active.contains(id)) {
+                            eventsCache.evict(id);
+                            eventPublisher.publishEvent(EventChangeDTO.deleted(id, null, now));
+                            results[index] = BatchItemResultDTO.of(index, id, BatchItemStatus.DELETED);
+                        } else {
+                            results[index] = BatchItemResultDTO.of(index, id, BatchItemStatus.NOT_FOUND);
+                        }
+                    }
+                });
+            } catch (DataAccessException e) {
+                markFailed(chunk, results, ids::get, e);
+            }
+        }
+        return finish("removidos", results);
+    }
+
+    private void checkSize(int size) {
+        if (size > maxItems) {
+            throw new BatchTooLargeException(size, maxItems);
+        }
+    }
+
+    private <T extends EventRequestDTO> List<Integer> validate(List<T> requests, BatchItemResultDTO[] results) {
+        List<Integer> valid = new ArrayList<>();
+        for (int index = 0; index < requests.size(); index++) {
+            T request = requests.get(index);
+            if (request == null) {
+                results[index] = new BatchItemResultDTO(index, null, BatchItemStatus.INVALID, Map.of("item", "O item não pode ser nulo"));
+                continue;
+            }
+            Set<ConstraintViolation<T>> violations = validator.validate(request);
+            if (violations.isEmpty()) {
+                valid.add(index);
+                continue;
+            }
+            Map<String, String> errors = new HashMap<>();
+            violations.forEach(violation -> errors.put(violation.getPropertyPath().toString(), violation.getMessage()));
+            Long id = request instanceof EventBatchUpdateDTO update ? update.getId() : null;
+            results[index] = new BatchItemResultDTO(index, id, BatchItemStatus.INVALID, errors);
+        }
+        return valid;
+    }
+
+    private List<Integer> rejectDuplicates(List<Integer> indexes, Function<Integer, Long> idOf, BatchItemResultDTO[] results) {
+        Set<Long> seen = new HashSet<>();
+        List<Integer> unique = new ArrayList<>();
+        for (Integer index : indexes) {
+            if (seen.add(idOf.apply(index))) {
+                unique.add(index);
+            } else {
+                results[index] = new BatchItemResultDTO(index, idOf.apply(index), BatchItemStatus.INVALID,
+                        Map.of("id", "O ID aparece mais de uma vez no lote"));
+            }
+        }
+        return unique;
+    }
+
+    private List<List<Integer>> chunks(List<Integer> indexes) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int start = 0; start < indexes.size(); start += chunkSize) {
+            chunks.add(indexes.subList(start, Math.min(start + chunkSize, indexes.size())));
+        }
+        return chunks;
+    }
+
+    private void markFailed(List<Integer> chunk, BatchItemResultDTO[] results,
+                            Function<Integer, Long> idOf, DataAccessException e) {
+        log.error("Falha ao persistir lote de {} eventos", chunk.size(), e);
+        Map<String, String> errors = Map.of("erro", "Falha ao persistir o lote");
+        for (Integer index : chunk) {
+            results[index] = new BatchItemResultDTO(index, idOf.apply(index), BatchItemStatus.FAILED, errors);
+        }
+    }
+
+    private BatchResponseDTO finish(String action, BatchItemResultDTO[] results) {
+        BatchResponseDTO response = BatchResponseDTO.of(Arrays.asList(results));
+        log.info("Lote concluído: {} de {} eventos {}", response.getSucceeded(), response.getTotal(), action);
+        return response;
+    }
+}
@@ -0,0 +1,219 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.dto.EventChangeDTO;
+import com.example.eventsapi.dto.EventChangeType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Slf4j
+@Component
+public class EventChangeFeed {
+    static final String CHANGE_EVENT = "change";
+    static final String RESET_EVENT = "reset";
+    private static final char ID_SEPARATOR = '-';
+
+    private final SequencedChange[] ring;
+    private final int subscriberBufferSize;
+    private final long timeoutMillis;
+    private final TaskExecutor executor;
+    private final String epoch;
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+    private long lastSequence;
+
+    @Autowired
+    public EventChangeFeed(@Value("${events.stream.sender-threads}") int senderThreads,
+                           @Value("${events.stream.sender-queue}") int senderQueue,
+                           @Value("${events.stream.replay-size}") int replaySize,
+                           @Value("${events.stream.subscriber-buffer}") int subscriberBufferSize,
+                           @Value("${events.stream.timeout}") Duration timeout) {
+        this(senderExecutor(senderThreads, senderQueue), replaySize, subscriberBufferSize, timeout);
+    }
+
+    EventChangeFeed(TaskExecutor executor, int replaySize, int subscriberBufferSize, Duration timeout) {
+        this.executor = executor;
+        this.epoch = Long.toString(System.currentTimeMillis(), Character.MAX_RADIX);
+        this.ring = new SequencedChange[replaySize];
+        this.subscriberBufferSize = subscriberBufferSize;
+        this.timeoutMillis = timeout.toMillis();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onChange(EventChangeDTO change) {
+        if (change.getType() == EventChangeType.PURGED) {
+            return;
+        }
+        SequencedChange sequenced = new SequencedChange(eventId(++lastSequence), change);
+        ring[(int) (lastSequence % ring.length)] = sequenced;
+        subscribers.forEach(subscriber -> subscriber.offer(sequenced.toSse()));
+    }
+
+    public SseEmitter subscribe(String lastEventId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber;
+        synchronized (this) {
+            List<SseEmitter.SseEventBuilder> replay = replay(lastEventId);
+            subscriber = new Subscriber(emitter, replay.size() + subscriberBufferSize);
+            replay.forEach(subscriber::offer);
+            subscribers.add(subscriber);
+        }
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+        log.info("Novo assinante do feed de alterações (Last-Event-ID: {}); total: {}", lastEventId, subscribers.size());
+        return emitter;
+    }
+
+    @Scheduled(fixedDelayString = "${events.stream.heartbeat-interval}")
+    public void heartbeat() {
+        subscribers.forEach(subscriber -> subscriber.offer(SseEmitter.event().comment("heartbeat")));
+    }
+
+    public int subscriberCount() {
+        return subscribers.size();
+    }
+
+    String epoch() {
+        return epoch;
+    }
+
+    @PreDestroy
+    public void close() {
+        if (executor instanceof ThreadPoolTaskExecutor pool) {
+            pool.shutdown();
+        }
+    }
+
+    private List<SseEmitter.SseEventBuilder> replay(String lastEventId) {
+        List<SseEmitter.SseEventBuilder> replay = new ArrayList<>();
+        if (lastEventId == null) {
+            return replay;
+        }
+        long last = sequence(lastEventId);
+        if (last == lastSequence) {
+            return replay;
+        }
+        long oldest = Math.max(1, lastSequence - ring.length + 1);
+        if (last < oldest - 1 || last > lastSequence) {
+            String reason = last < 0 ? " de uma execução anterior do servidor" : " fora da janela de replay";
+            replay.add(SseEmitter.event()
+                    .name(RESET_EVENT)
+                    .id(eventId(lastSequence))
+                    .data("Last-Event-ID " + lastEventId + reason + "; recarregue os eventos"));
+            return replay;
+        }
+        for (long sequence = last + 1; sequence <= lastSequence; sequence++) {
+            replay.add(ring[(int) (sequence % ring.length)].toSse());
+        }
+        return replay;
+    }
+
+    private String eventId(long sequence) {
+        return epoch + ID_SEPARATOR + sequence;
+    }
+
+    private long sequence(String eventId) {
+        int separator = eventId.lastIndexOf(ID_SEPARATOR);
+        if (separator < 0 || !eventId.substring(0, separator).equals(epoch)) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(eventId.substring(separator + 1));
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static ThreadPoolTaskExecutor senderExecutor(int threads, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("events-change-feed-");
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.initialize();
+        return executor;
+    }
+
+    private record SequencedChange(String id, EventChangeDTO change) {
+        SseEmitter.SseEventBuilder toSse() {
+            return SseEmitter.event()
+                    .name(CHANGE_EVENT)
+                    .id(id)
+                    .data(change, MediaType.APPLICATION_JSON);
+        }
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final BlockingQueue<SseEmitter.SseEventBuilder> queue;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        Subscriber(SseEmitter emitter, int capacity) {
+            this.emitter = emitter;
+            this.queue = new LinkedBlockingQueue<>(capacity);
+        }
+
+        void offer(SseEmitter.SseEventBuilder event) {
+            if (!queue.offer(event)) {
+                log.warn("Assinante do feed de alterações não acompanhou o ritmo ({} eventos pendentes); desconectando", queue.size());
+                subscribers.remove(this);
+                emitter.complete();
+                return;
+            }
+            if (draining.compareAndSet(false, true)) {
+                schedule();
+            }
+        }
+
+        private void schedule() {
+            try {
+                executor.execute(this::drain);
+            } catch (TaskRejectedException e) {
+                log.warn("Fila de envio do feed de alterações cheia; desconectando assinante");
+                subscribers.remove(this);
+                queue.clear();
+                draining.set(false);
+                emitter.complete();
+            }
+        }
+
+        private void drain() {
+            try {
+                SseEmitter.SseEventBuilder event;
+                while ((event = queue.poll()) != null) {
+                    emitter.send(event);
+                }
+            } catch (IOException | IllegalStateException e) {
+                subscribers.remove(this);
+                queue.clear();
+                emitter.completeWithError(e);
+                return;
+            } finally {
+                draining.set(false);
+            }
+            if (!queue.isEmpty() && draining.compareAndSet(false, true)) {
+                schedule();
+            }
+        }
+    }
+}
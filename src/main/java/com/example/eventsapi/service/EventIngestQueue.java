@@ -0,0 +1,311 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.dto.EventChangeDTO;
+import com.example.eventsapi.dto.EventChangeType;
+import com.example.eventsapi.dto.EventRequestDTO;
+import com.example.eventsapi.dto.IngestStatus;
+import com.example.eventsapi.dto.IngestStatusDTO;
+import com.example.eventsapi.entity.Event;
+import com.example.eventsapi.exception.IngestQueueFullException;
+import com.example.eventsapi.exception.IngestQueueUnavailableException;
+import com.example.eventsapi.mapper.EventMapper;
+import com.example.eventsapi.repository.EventLogStore;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class EventIngestQueue implements SmartLifecycle {
+    private static final String INSERT = "INSERT INTO events (id, titulo, data_hora, local, deleted, version, updated_at) VALUES (?, ?, ?, ?, FALSE, 0, ?)";
+    private static final String EXISTS = "SELECT COUNT(*) FROM events WHERE id = ?";
+    private static final long POLL_MILLIS = 100;
+    private static final int ID_ALLOCATION_SIZE = 50;
+    private static final double JOURNAL_COMPACTION_THRESHOLD = 0.5;
+    private static final int PHASE = SmartLifecycle.DEFAULT_PHASE - 4096;
+
+    private final EventIdAllocator eventIdAllocator;
+    private final EventMapper eventMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockingQueue<Pending> queue;
+    private final Cache<Long, IngestStatusDTO> statuses;
+    private final int capacity;
+    private final int batchSize;
+    private final EventLogStore journal;
+    private final long journalFlushNanos;
+    private long lastJournalFlush;
+    private volatile boolean running;
+    private Thread writer;
+
+    public EventIngestQueue(EventIdAllocator eventIdAllocator,
+                            EventMapper eventMapper,
+                            JdbcTemplate jdbcTemplate,
+                            PlatformTransactionManager transactionManager,
+                            ApplicationEventPublisher eventPublisher,
+                            MeterRegistry meterRegistry,
+                            @Value("${events.ingest.queue-capacity}") int capacity,
+                            @Value("${events.ingest.batch-size}") int batchSize,
+                            @Value("${events.ingest.status-spec}") String statusSpec,
+                            @Value("${events.ingest.journal-path}") String journalPath,
+                            @Value("${events.ingest.journal-initial-size}") DataSize journalInitialSize,
+                            @Value("${events.ingest.journal-flush-interval}") Duration journalFlushInterval) throws IOException {
+        this.eventIdAllocator = eventIdAllocator;
+        this.eventMapper = eventMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.statuses = Caffeine.from(statusSpec).build();
+        this.capacity = capacity;
+        this.batchSize = batchSize;
+        this.journal = journalPath.isBlank() ? null : new EventLogStore(Path.of(journalPath), (int) journalInitialSize.toBytes());
+        this.journalFlushNanos = journalFlushInterval.toNanos();
+        this.lastJournalFlush = System.nanoTime();
+        Gauge.builder("events.ingest.queue.size", queue, BlockingQueue::size)
+                .description("Eventos aceitos aguardando gravação")
+                .register(meterRegistry);
+    }
+
+    public IngestStatusDTO submit(EventRequestDTO eventDTO) {
+        if (!running) {
+            throw new IngestQueueUnavailableException();
+        }
+        if (queue.remainingCapacity() == 0) {
+            throw new IngestQueueFullException(capacity);
+        }
+        long id = eventIdAllocator.nextId();
+        Pending item = new Pending(id, eventDTO);
+        IngestStatusDTO pending = IngestStatusDTO.pending(id);
+        if (journal != null) {
+            journal.append(toEntry(item));
+            pending = IngestStatusDTO.journaled(id);
+        }
+        statuses.put(id, pending);
+        if (!queue.offer(item)) {
+            discard(item);
+            throw new IngestQueueFullException(capacity);
+        }
+        if (!running && queue.remove(item)) {
+            discard(item);
+            throw new IngestQueueUnavailableException();
+        }
+        log.debug("Evento {} aceito para gravação assíncrona", id);
+        return pending;
+    }
+
+    public Optional<IngestStatusDTO> status(Long id) {
+        return Optional.ofNullable(statuses.getIfPresent(id));
+    }
+
+    public int size() {
+        return queue.size();
+    }
+
+    @Override
+    public synchronized void start() {
+        replayJournal();
+        running = true;
+        writer = new Thread(this::drain, "events-ingest-writer");
+        writer.start();
+    }
+
+    @Override
+    public void stop() {
+        Thread current;
+        synchronized (this) {
+            running = false;
+            current = writer;
+        }
+        if (current != null) {
+            try {
+                current.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        log.info("Fila de ingestão encerrada; {} eventos pendentes", queue.size());
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        if (journal != null) {
+            journal.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * Lower than the web server's phase, so the queue stops only after the server stops accepting requests.
+     */
+    @Override
+    public int getPhase() {
+        return PHASE;
+    }
+
+    void drain() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(POLL_MILLIS, TimeUnit.MILLISECONDS);
+                maintainJournal(first == null);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Erro inesperado ao gravar lote da fila de ingestão", e);
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<Pending> batch) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(batch));
+            batch.forEach(pending -> {
+                statuses.put(pending.id(), IngestStatusDTO.of(pending.id(), IngestStatus.PERSISTED));
+                release(pending);
+            });
+            log.debug("Lote de ingestão gravado - {} eventos", batch.size());
+        } catch (DataAccessException e) {
+            log.warn("Falha ao gravar lote de ingestão com {} eventos; gravando individualmente", batch.size(), e);
+            batch.forEach(this::writeOne);
+        }
+    }
+
+    private void writeOne(Pending pending) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insert(List.of(pending)));
+            statuses.put(pending.id(), IngestStatusDTO.of(pending.id(), IngestStatus.PERSISTED));
+        } catch (DataAccessException e) {
+            log.warn("Falha ao gravar evento {} da fila de ingestão", pending.id(), e);
+            statuses.put(pending.id(), IngestStatusDTO.failed(pending.id(), e.getMostSpecificCause().getMessage()));
+        }
+        release(pending);
+    }
+
+    private void insert(List<Pending> batch) {
+        Instant now = Event.now();
+        jdbcTemplate.batchUpdate(INSERT, batch.stream()
+                .map(pending -> new Object[]{
+                        pending.id(),
+                        pending.event().getTitulo(),
+                        Timestamp.valueOf(pending.event().getDataHora()),
+                        pending.event().getLocal(),
+                        Timestamp.from(now)
+                })
+                .toList());
+        batch.forEach(pending -> eventPublisher.publishEvent(EventChangeDTO.upserted(EventChangeType.CREATED,
+                eventMapper.toResponseDTO(pending.id(), pending.event(), 0L, now))));
+    }
+
+    /**
+     * Runs before the web server accepts requests; IDs left in the allocator's current block are skipped
+     * after the sequence moves past the replayed IDs.
+     */
+    private void replayJournal() {
+        if (journal == null || journal.size() == 0) {
+            return;
+        }
+        List<Pending> journaled = new ArrayList<>();
+        journal.scan(entry -> journaled.add(new Pending(entry.id(),
+                new EventRequestDTO(entry.titulo(), entry.dataHora(), entry.local()))));
+        long maxId = journaled.stream().mapToLong(Pending::id).max().orElse(0);
+        long next = eventIdAllocator.nextId();
+        if (next <= maxId) {
+            jdbcTemplate.execute("ALTER SEQUENCE events_seq RESTART WITH " + (maxId + ID_ALLOCATION_SIZE));
+        }
+        while (next <= maxId) {
+            next = eventIdAllocator.nextId();
+        }
+
+        List<Pending> missing = new ArrayList<>();
+        for (Pending pending : journaled) {
+            if (jdbcTemplate.queryForObject(EXISTS, Long.class, pending.id()) > 0) {
+                release(pending);
+            } else {
+                missing.add(pending);
+            }
+        }
+        for (int from = 0; from < missing.size(); from += batchSize) {
+            write(missing.subList(from, Math.min(from + batchSize, missing.size())));
+        }
+        log.info("{} eventos do diário de ingestão gravados na inicialização ({} já estavam no banco)",
+                missing.size(), journaled.size() - missing.size());
+    }
+
+    private void maintainJournal(boolean idle) {
+        if (journal == null) {
+            return;
+        }
+        long now = System.nanoTime();
+        if (now - lastJournalFlush >= journalFlushNanos) {
+            journal.force();
+            lastJournalFlush = now;
+        }
+        if (idle && journal.garbageRatio() >= JOURNAL_COMPACTION_THRESHOLD) {
+            try {
+                journal.compact(entry -> true);
+            } catch (IOException e) {
+                log.warn("Falha ao compactar o diário de ingestão", e);
+            }
+        }
+    }
+
+    private void discard(Pending pending) {
+        statuses.invalidate(pending.id());
+        release(pending);
+    }
+
+    private void release(Pending pending) {
+        if (journal != null) {
+            journal.remove(pending.id());
+        }
+    }
+
+    private static EventLogStore.Entry toEntry(Pending pending) {
+        Instant now = Event.now();
+        EventRequestDTO event = pending.event();
+        return new EventLogStore.Entry(pending.id(), 0, event.getTitulo(), event.getDataHora(), event.getLocal(),
+                false, false, now, now);
+    }
+
+    private record Pending(long id, EventRequestDTO event) {
+    }
+}
@@ -0,0 +1,202 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.dto.EventChangeDTO;
+import com.example.eventsapi.dto.EventChangeType;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.entity.Event;
+import com.example.eventsapi.repository.EventLogStore;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+@Slf4j
+@Service
+@Profile("event-log")
+@DependsOn("entityManagerFactory")
+public class EventLogService {
+    private static final String INSERT_EVENT = "INSERT INTO events (id, titulo, data_hora, local, deleted, version, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)";
+    private static final String INSERT_ARCHIVED = "INSERT INTO events_archive (id, titulo, data_hora, local, deleted, version, updated_at, archived_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final int ID_ALLOCATION_SIZE = 50;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EventSyncService eventSyncService;
+    private final EventLogStore store;
+    private final Duration tombstoneRetention;
+    private final double compactionThreshold;
+
+    public EventLogService(JdbcTemplate jdbcTemplate,
+                           EventSyncService eventSyncService,
+                           @Value("${events.log.path}") String path,
+                           @Value("${events.log.initial-size}") DataSize initialSize,
+                           @Value("${events.log.compaction-threshold}") double compactionThreshold,
+                           @Value("${events.purge.retention}") Duration tombstoneRetention) throws IOException {
+        this.jdbcTemplate = jdbcTemplate;
+        this.eventSyncService = eventSyncService;
+        this.store = new EventLogStore(Path.of(path), (int) initialSize.toBytes());
+        this.compactionThreshold = compactionThreshold;
+        this.tombstoneRetention = tombstoneRetention;
+    }
+
+    @PostConstruct
+    public void restore() {
+        List<Object[]> events = new ArrayList<>();
+        List<Object[]> archived = new ArrayList<>();
+        long[] maxId = {0};
+        Instant[] horizon = {store.horizon()};
+        store.scan(entry -> {
+            maxId[0] = Math.max(maxId[0], entry.id());
+            if (entry.archived() && entry.deleted() && entry.updatedAt().isAfter(horizon[0])) {
+                horizon[0] = entry.updatedAt();
+            }
+            if (entry.archived()) {
+                archived.add(new Object[]{entry.id(), entry.titulo(), Timestamp.valueOf(entry.dataHora()), entry.local(),
+                        entry.deleted(), entry.version(), Timestamp.from(entry.updatedAt()), Timestamp.from(entry.loggedAt())});
+            } else {
+                events.add(new Object[]{entry.id(), entry.titulo(), Timestamp.valueOf(entry.dataHora()), entry.local(),
+                        entry.deleted(), entry.version(), Timestamp.from(entry.updatedAt())});
+            }
+        });
+        eventSyncService.tombstonesRemoved(horizon[0]);
+        if (maxId[0] == 0) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_EVENT, events);
+        jdbcTemplate.batchUpdate(INSERT_ARCHIVED, archived);
+        jdbcTemplate.execute("ALTER SEQUENCE events_seq RESTART WITH " + (maxId[0] + ID_ALLOCATION_SIZE));
+        log.info("{} eventos e {} eventos arquivados restaurados do log", events.size(), archived.size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onChange(EventChangeDTO change) {
+        Optional<EventLogStore.Entry> previous = store.find(change.getId());
+        if (change.getType() == EventChangeType.PURGED) {
+            store.purge(change.getId());
+        } else {
+            Optional<EventLogStore.Entry> entry = toEntry(change, previous);
+            if (entry.isEmpty()) {
+                log.warn("Alteração {} do evento {} sem registro anterior no log; ignorada", change.getType(), change.getId());
+                return;
+            }
+            store.append(entry.get());
+        }
+        revertOnRollback(change.getId(), previous);
+    }
+
+    public Optional<EventLogStore.Entry> find(Long id) {
+        return store.find(id);
+    }
+
+    public Optional<EventResponseDTO> findById(Long id) {
+        return store.find(id).filter(EventLogService::isCurrent).map(EventLogService::toResponseDTO);
+    }
+
+    public List<EventResponseDTO> findAll() {
+        List<EventResponseDTO> events = new ArrayList<>();
+        scan(events::add);
+        return events;
+    }
+
+    public void scan(Consumer<EventResponseDTO> consumer) {
+        store.scan(entry -> {
+            if (isCurrent(entry)) {
+                consumer.accept(toResponseDTO(entry));
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${events.log.flush-interval}")
+    public void flush() {
+        store.force();
+    }
+
+    @Scheduled(initialDelayString = "${events.log.compaction-interval}", fixedDelayString = "${events.log.compaction-interval}")
+    public void compact() {
+        if (store.garbageRatio() < compactionThreshold) {
+            return;
+        }
+        Instant tombstonesBefore = Event.now().minus(tombstoneRetention);
+        try {
+            store.compact(entry -> !entry.deleted() || entry.updatedAt().isAfter(tombstonesBefore));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Falha ao compactar o log de eventos", e);
+        }
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        store.close();
+    }
+
+    private void revertOnRollback(Long id, Optional<EventLogStore.Entry> previous) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Map<Long, Optional<EventLogStore.Entry>> originals =
+                (Map<Long, Optional<EventLogStore.Entry>>) TransactionSynchronizationManager.getResource(this);
+        if (originals == null) {
+            Map<Long, Optional<EventLogStore.Entry>> replaced = new HashMap<>();
+            TransactionSynchronizationManager.bindResource(this, replaced);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(EventLogService.this);
+                    if (status != STATUS_COMMITTED) {
+                        log.warn("Transação não confirmada; desfazendo {} alterações no log de eventos", replaced.size());
+                        replaced.forEach((eventId, entry) -> store.revert(eventId, entry.orElse(null)));
+                    }
+                }
+            });
+            originals = replaced;
+        }
+        originals.putIfAbsent(id, previous);
+    }
+
+    private Optional<EventLogStore.Entry> toEntry(EventChangeDTO change, Optional<EventLogStore.Entry> previous) {
+        Instant now = Event.now();
+        if (change.getType() == EventChangeType.CREATED || change.getType() == EventChangeType.UPDATED) {
+            EventResponseDTO event = change.getEvent();
+            return Optional.of(new EventLogStore.Entry(event.getId(), event.getVersion(), event.getTitulo(), event.getDataHora(),
+                    event.getLocal(), false, false, event.getUpdatedAt(), now));
+        }
+        return previous.map(entry -> change.getType() == EventChangeType.DELETED
+                ? new EventLogStore.Entry(entry.id(),
+                        change.getVersion() == null ? entry.version() + 1 : change.getVersion(),
+                        entry.titulo(), entry.dataHora(), entry.local(), true, false, change.getOccurredAt(), now)
+                : new EventLogStore.Entry(entry.id(), entry.version(), entry.titulo(), entry.dataHora(),
+                        entry.local(), entry.deleted(), true, entry.updatedAt(), change.getOccurredAt()));
+    }
+
+    private static boolean isCurrent(EventLogStore.Entry entry) {
+        return !entry.deleted() && !entry.archived();
+    }
+
+    private static EventResponseDTO toResponseDTO(EventLogStore.Entry entry) {
+        return new EventResponseDTO(entry.id(), entry.titulo(), entry.dataHora(), entry.local(), false,
+                entry.version(), entry.updatedAt());
+    }
+}
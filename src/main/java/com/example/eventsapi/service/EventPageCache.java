@@ -0,0 +1,36 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.dto.CountMode;
+import com.example.eventsapi.dto.EventCollectionVersion;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+@Component
+public class EventPageCache {
+    private final Cache<Key, Entry> pages;
+
+    public EventPageCache(@Value("${events.page-cache.spec}") String spec) {
+        this.pages = Caffeine.from(spec).build();
+    }
+
+    public byte[] get(Key key, EventCollectionVersion version) {
+        Entry entry = pages.getIfPresent(key);
+        return entry != null && entry.version().equals(version) ? entry.body() : null;
+    }
+
+    public void put(Key key, EventCollectionVersion version, byte[] body) {
+        pages.put(key, new Entry(version, body));
+    }
+
+    public long size() {
+        return pages.estimatedSize();
+    }
+
+    public record Key(int page, int size, String sort, CountMode count, Long approximateTotal) {
+    }
+
+    private record Entry(EventCollectionVersion version, byte[] body) {
+    }
+}
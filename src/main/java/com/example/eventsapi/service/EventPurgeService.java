@@ -0,0 +1,138 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.dto.EventChangeDTO;
+import com.example.eventsapi.entity.Event;
+import com.example.eventsapi.repository.ArchivedEventRepository;
+import com.example.eventsapi.repository.EventRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+
+@Slf4j
+@Service
+public class EventPurgeService {
+    private final EventRepository eventRepository;
+    private final ArchivedEventRepository archivedEventRepository;
+    private final EventSyncService eventSyncService;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Counter eventsPurged;
+    private final Counter archivePurged;
+    private final Timer purgeTimer;
+    private final Duration retention;
+    private final int batchSize;
+    private final int maxRows;
+    private final Duration pause;
+
+    public EventPurgeService(EventRepository eventRepository,
+                             ArchivedEventRepository archivedEventRepository,
+                             EventSyncService eventSyncService,
+                             PlatformTransactionManager transactionManager,
+                             ApplicationEventPublisher eventPublisher,
+                             MeterRegistry meterRegistry,
+                             @Value("${events.purge.retention}") Duration retention,
+                             @Value("${events.purge.batch-size}") int batchSize,
+                             @Value("${events.purge.max-rows}") int maxRows,
+                             @Value("${events.purge.pause}") Duration pause) {
+        this.eventRepository = eventRepository;
+        this.archivedEventRepository = archivedEventRepository;
+        this.eventSyncService = eventSyncService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.eventsPurged = purgedCounter(meterRegistry, "events");
+        this.archivePurged = purgedCounter(meterRegistry, "events_archive");
+        this.purgeTimer = Timer.builder("events.purge")
+                .description("Tempo gasto em cada execução do expurgo de tombstones")
+                .register(meterRegistry);
+        this.retention = retention;
+        this.batchSize = batchSize;
+        this.maxRows = maxRows;
+        this.pause = pause;
+    }
+
+    @Scheduled(initialDelayString = "${events.purge.interval}", fixedDelayString = "${events.purge.interval}")
+    public void purge() {
+        purge(Event.now());
+    }
+
+    public int purge(Instant now) {
+        Instant before = now.minus(retention);
+        int total = purgeTimer.record(() -> {
+            int events = purge(maxRows, limit -> purgeEvents(before, limit), eventsPurged);
+            return events + purge(maxRows - events, limit -> purgeArchive(before, limit), archivePurged);
+        });
+        if (total > 0) {
+            log.info("{} tombstones removidos definitivamente (removidos antes de {})", total, before);
+        }
+        return total;
+    }
+
+    private int purge(int budget, IntUnaryOperator batch, Counter counter) {
+        int purged = 0;
+        while (purged < budget) {
+            int limit = Math.min(batchSize, budget - purged);
+            int deleted = transactionTemplate.execute(status -> batch.applyAsInt(limit));
+            counter.increment(deleted);
+            purged += deleted;
+            if (deleted < limit || purged >= budget || !pause()) {
+                break;
+            }
+        }
+        return purged;
+    }
+
+    private int purgeEvents(Instant before, int limit) {
+        List<Long> ids = eventRepository.findPurgeableIds(before, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        eventSyncService.tombstonesRemoved(eventRepository.findMaxDeletedUpdatedAt(ids));
+        eventRepository.deleteAllByIdInBatch(ids);
+        publishPurged(ids);
+        return ids.size();
+    }
+
+    private int purgeArchive(Instant before, int limit) {
+        List<Long> ids = archivedEventRepository.findPurgeableIds(before, PageRequest.of(0, limit));
+        if (!ids.isEmpty()) {
+            archivedEventRepository.deleteAllByIdInBatch(ids);
+            publishPurged(ids);
+        }
+        return ids.size();
+    }
+
+    private void publishPurged(List<Long> ids) {
+        Instant now = Event.now();
+        ids.forEach(id -> eventPublisher.publishEvent(EventChangeDTO.purged(id, now)));
+    }
+
+    private boolean pause() {
+        try {
+            Thread.sleep(pause.toMillis());
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private static Counter purgedCounter(MeterRegistry meterRegistry, String table) {
+        return Counter.builder("events.purge.rows")
+                .description("Tombstones removidos definitivamente")
+                .tag("table", table)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,246 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.dto.EventChangeDTO;
+import com.example.eventsapi.dto.EventChangeType;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.dto.EventSearchCriteria;
+import com.example.eventsapi.entity.Event;
+import com.example.eventsapi.repository.EventRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventSearchIndex {
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{Alnum}]+");
+
+    private final EventRepository eventRepository;
+    private final EntityManager entityManager;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Document> documents = new HashMap<>();
+    private final Map<String, Set<Long>> titleTokens = new HashMap<>();
+    private final NavigableMap<String, Set<Long>> locals = new TreeMap<>();
+    private final NavigableMap<LocalDateTime, Set<Long>> dates = new TreeMap<>();
+    private Set<Long> removedDuringRebuild;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        log.info("Construindo índice de busca de eventos");
+        setRemovedDuringRebuild(new HashSet<>());
+        try (Stream<Event> events = eventRepository.streamByDeletedFalse()) {
+            events.forEach(event -> {
+                index(event.getId(), event.getVersion(), event.getTitulo(), event.getLocal(), event.getDataHora(), true);
+                entityManager.detach(event);
+            });
+        } finally {
+            setRemovedDuringRebuild(null);
+        }
+        log.info("Índice de busca construído com {} eventos", size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChange(EventChangeDTO change) {
+        if (change.getType() == EventChangeType.CREATED || change.getType() == EventChangeType.UPDATED) {
+            index(change.getEvent());
+        } else {
+            remove(change.getId());
+        }
+    }
+
+    public void index(EventResponseDTO event) {
+        index(event.getId(), event.getVersion(), event.getTitulo(), event.getLocal(), event.getDataHora(), false);
+    }
+
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            if (removedDuringRebuild != null) {
+                removedDuringRebuild.add(id);
+            }
+            Document document = documents.remove(id);
+            if (document != null) {
+                unlink(document);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public Page<Long> search(EventSearchCriteria criteria, Pageable pageable) {
+        List<String> terms = tokenize(criteria.getQ()).stream().distinct().toList();
+        String local = criteria.getLocal() == null ? null : normalize(criteria.getLocal());
+        String localPrefix = criteria.getLocalPrefix() == null ? null : normalize(criteria.getLocalPrefix());
+
+        lock.readLock().lock();
+        try {
+            List<Document> matches = new ArrayList<>();
+            for (Long id : candidates(terms, local, localPrefix, criteria)) {
+                Document document = documents.get(id);
+                if (document != null && document.matches(terms, local, localPrefix, criteria.getFrom(), criteria.getTo())) {
+                    matches.add(document);
+                }
+            }
+
+            Comparator<Document> order = Comparator.comparing(Document::dataHora).thenComparing(Document::id);
+            if (!terms.isEmpty()) {
+                Map<Long, Double> scores = new HashMap<>();
+                matches.forEach(document -> scores.put(document.id(), score(document, terms)));
+                order = Comparator.<Document>comparingDouble(document -> scores.get(document.id())).reversed().thenComparing(order);
+            }
+            matches.sort(order);
+
+            int from = (int) Math.min(pageable.getOffset(), matches.size());
+            int to = Math.min(from + pageable.getPageSize(), matches.size());
+            List<Long> ids = matches.subList(from, to).stream().map(Document::id).toList();
+            return new PageImpl<>(ids, pageable, matches.size());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private Collection<Long> candidates(List<String> terms, String local, String localPrefix, EventSearchCriteria criteria) {
+        if (!terms.isEmpty()) {
+            return terms.stream()
+                    .map(term -> titleTokens.getOrDefault(term, Set.of()))
+                    .min(Comparator.comparingInt(Set::size))
+                    .orElseThrow();
+        }
+        if (local != null) {
+            return locals.getOrDefault(local, Set.of());
+        }
+        if (localPrefix != null) {
+            return flatten(locals.subMap(localPrefix, true, localPrefix + Character.MAX_VALUE, true).values());
+        }
+        if (criteria.getFrom() != null || criteria.getTo() != null) {
+            LocalDateTime from = criteria.getFrom() == null ? LocalDateTime.MIN : criteria.getFrom();
+            LocalDateTime to = criteria.getTo() == null ? LocalDateTime.MAX : criteria.getTo();
+            return from.isAfter(to) ? List.of() : flatten(dates.subMap(from, true, to, true).values());
+        }
+        return documents.keySet();
+    }
+
+    private double score(Document document, List<String> terms) {
+        double score = 0;
+        for (String term : terms) {
+            long frequency = document.tokens().stream().filter(term::equals).count();
+            double idf = Math.log(1 + (double) documents.size() / titleTokens.get(term).size());
+            score += frequency * idf;
+        }
+        return score / Math.sqrt(document.tokens().size());
+    }
+
+    private void setRemovedDuringRebuild(Set<Long> removed) {
+        lock.writeLock().lock();
+        try {
+            removedDuringRebuild = removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void index(Long id, Long version, String titulo, String local, LocalDateTime dataHora, boolean rebuilding) {
+        Document document = new Document(id, version, tokenize(titulo), normalize(local), dataHora);
+        lock.writeLock().lock();
+        try {
+            if (rebuilding && removedDuringRebuild.contains(id)) {
+                return;
+            }
+            Document previous = documents.get(id);
+            if (previous != null) {
+                if (previous.version() != null && version != null && previous.version() > version) {
+                    return;
+                }
+                unlink(previous);
+            }
+            documents.put(id, document);
+            document.tokens().forEach(token -> titleTokens.computeIfAbsent(token, key -> new HashSet<>()).add(id));
+            locals.computeIfAbsent(document.local(), key -> new HashSet<>()).add(id);
+            dates.computeIfAbsent(document.dataHora(), key -> new HashSet<>()).add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private void unlink(Document document) {
+        document.tokens().forEach(token -> detach(titleTokens, token, document.id()));
+        detach(locals, document.local(), document.id());
+        detach(dates, document.dataHora(), document.id());
+    }
+
+    private static <K> void detach(Map<K, Set<Long>> postings, K key, Long id) {
+        Set<Long> ids = postings.get(key);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            postings.remove(key);
+        }
+    }
+
+    private static Collection<Long> flatten(Collection<Set<Long>> postings) {
+        List<Long> ids = new ArrayList<>();
+        postings.forEach(ids::addAll);
+        return ids;
+    }
+
+    static String normalize(String text) {
+        String decomposed = Normalizer.normalize(text.trim(), Normalizer.Form.NFD);
+        return DIACRITICS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        return Stream.of(TOKEN_SEPARATOR.split(normalize(text)))
+                .filter(token -> !token.isEmpty())
+                .toList();
+    }
+
+    private record Document(Long id, Long version, List<String> tokens, String local, LocalDateTime dataHora) {
+        boolean matches(List<String> terms, String exactLocal, String localPrefix, LocalDateTime from, LocalDateTime to) {
+            return tokens.containsAll(terms)
+                    && (exactLocal == null || local.equals(exactLocal))
+                    && (localPrefix == null || local.startsWith(localPrefix))
+                    && (from == null || !dataHora.isBefore(from))
+                    && (to == null || !dataHora.isAfter(to));
+        }
+    }
+}
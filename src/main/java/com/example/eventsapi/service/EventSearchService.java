@@ -0,0 +1,43 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.dto.EventSearchCriteria;
+import com.example.eventsapi.repository.EventRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@AllArgsConstructor
+@Service
+@Timed(value = "events.service", histogram = true)
+public class EventSearchService {
+    private final EventSearchIndex eventSearchIndex;
+    private final EventRepository eventRepository;
+
+    public Page<EventResponseDTO> search(EventSearchCriteria criteria, Pageable pageable) {
+        log.info("Buscando eventos - critérios: {}, página: {}, tamanho: {}",
+                criteria, pageable.getPageNumber(), pageable.getPageSize());
+        Page<Long> hits = eventSearchIndex.search(criteria, pageable);
+        if (hits.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.getTotalElements());
+        }
+        Map<Long, EventResponseDTO> events = eventRepository.findResponsesByIdIn(hits.getContent()).stream()
+                .collect(Collectors.toMap(EventResponseDTO::getId, Function.identity()));
+        List<EventResponseDTO> content = hits.getContent().stream()
+                .map(events::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        return new PageImpl<>(content, pageable, hits.getTotalElements());
+    }
+}
@@ -1,79 +1,212 @@
 package com.example.eventsapi.service;
 
+import com.example.eventsapi.config.CacheConfig;
+import com.example.eventsapi.dto.CursorPageResponseDTO;
+import com.example.eventsapi.dto.EventChangeDTO;
+import com.example.eventsapi.dto.EventChangeType;
+import com.example.eventsapi.dto.EventCollectionVersion;
+import com.example.eventsapi.dto.EventCursor;
 import com.example.eventsapi.dto.EventRequestDTO;
 import com.example.eventsapi.dto.EventResponseDTO;
 import com.example.eventsapi.entity.Event;
 import com.example.eventsapi.exception.EventNotFoundException;
+import com.example.eventsapi.exception.EventVersionConflictException;
 import com.example.eventsapi.mapper.EventMapper;
+import com.example.eventsapi.repository.EventHistoryRepository;
 import com.example.eventsapi.repository.EventRepository;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.CachePut;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Slf4j
 @AllArgsConstructor
 @Service
+@Timed(value = "events.service", histogram = true)
 public class EventService {
+    static final int MAX_CURSOR_PAGE_SIZE = 100;
+
     private final EventRepository eventRepository;
+    private final EventHistoryRepository eventHistoryRepository;
     private final EventMapper eventMapper;
+    private final EntityManager entityManager;
+    private final ApproximateEventCounter approximateEventCounter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Optional<EventLogService> eventLogService;
 
+    @Transactional(readOnly = true)
     public List<EventResponseDTO> findAll() {
         log.info("Buscando todos os eventos");
-        List<Event> events = eventRepository.findByDeletedFalse();
-        return events.stream()
-                .map(eventMapper::toResponseDTO)
-                .collect(Collectors.toList());
+        return eventLogService.map(EventLogService::findAll).orElseGet(eventRepository::findByDeletedFalse);
+    }
+
+    @Transactional(readOnly = true)
+    public void streamAll(Consumer<EventResponseDTO> consumer) {
+        log.info("Exportando todos os eventos em streaming");
+        if (eventLogService.isPresent()) {
+            eventLogService.get().scan(consumer);
+            return;
+        }
+        try (Stream<Event> events = eventRepository.streamByDeletedFalse()) {
+            events.forEach(event -> {
+                consumer.accept(eventMapper.toResponseDTO(event));
+                entityManager.detach(event);
+            });
+        }
     }
 
+    @Transactional(readOnly = true)
     public Page<EventResponseDTO> findAll(Pageable pageable) {
         log.info("Buscando eventos paginados - página: {}, tamanho: {}",
                 pageable.getPageNumber(), pageable.getPageSize());
-        Page<Event> events = eventRepository.findByDeletedFalse(pageable);
-        return events.map(eventMapper::toResponseDTO);
+        return eventRepository.findByDeletedFalse(pageable);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<EventResponseDTO> findSlice(Pageable pageable) {
+        log.info("Buscando eventos paginados sem contagem - página: {}, tamanho: {}",
+                pageable.getPageNumber(), pageable.getPageSize());
+        return eventRepository.findSliceByDeletedFalse(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<EventResponseDTO> findAllIncludingArchived(Pageable pageable) {
+        log.info("Buscando eventos paginados, incluindo arquivados - página: {}, tamanho: {}",
+                pageable.getPageNumber(), pageable.getPageSize());
+        return eventHistoryRepository.findByDeletedFalse(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<EventResponseDTO> findSliceIncludingArchived(Pageable pageable) {
+        log.info("Buscando eventos paginados sem contagem, incluindo arquivados - página: {}, tamanho: {}",
+                pageable.getPageNumber(), pageable.getPageSize());
+        return eventHistoryRepository.findSliceByDeletedFalse(pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public EventCollectionVersion collectionVersion() {
+        return eventRepository.findCollectionVersion();
+    }
+
+    public long approximateCount() {
+        return approximateEventCounter.get();
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPageResponseDTO<EventResponseDTO> findAllByCursor(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CURSOR_PAGE_SIZE));
+        log.info("Buscando eventos por cursor - tamanho: {}", pageSize);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<EventResponseDTO> events;
+        if (cursor == null || cursor.isBlank()) {
+            events = eventRepository.findFirstKeysetPage(limit);
+        } else {
+            EventCursor position = EventCursor.decode(cursor);
+            events = eventRepository.findKeysetPageAfter(position.getDataHora(), position.getId(), limit);
+        }
+
+        boolean hasNext = events.size() > pageSize;
+        List<EventResponseDTO> page = hasNext ? events.subList(0, pageSize) : events;
+        String nextCursor = null;
+        if (hasNext) {
+            EventResponseDTO last = page.get(page.size() - 1);
+            nextCursor = new EventCursor(last.getDataHora(), last.getId()).encode();
+        }
+        return CursorPageResponseDTO.of(page, nextCursor);
+    }
+
+    @Transactional(readOnly = true)
+    @Cacheable(cacheNames = CacheConfig.EVENTS_CACHE, key = "#id")
     public EventResponseDTO findById(Long id) {
         log.info("Buscando evento com ID: {}", id);
-        Event event = eventRepository.findByIdAndDeletedFalse(id)
+        Optional<EventResponseDTO> event = eventLogService.isPresent()
+                ? eventLogService.get().findById(id)
+                : eventRepository.findByIdAndDeletedFalse(id);
+        return event.orElseThrow(() -> new EventNotFoundException(id));
+    }
+
+    @Transactional(readOnly = true)
+    public EventResponseDTO findByIdIncludingArchived(Long id) {
+        log.info("Buscando evento com ID: {}, incluindo arquivados", id);
+        return eventHistoryRepository.findByIdAndDeletedFalse(id)
                 .orElseThrow(() -> new EventNotFoundException(id));
-        return eventMapper.toResponseDTO(event);
     }
 
     @Transactional
+    @CachePut(cacheNames = CacheConfig.EVENTS_CACHE, key = "#result.id")
     public EventResponseDTO create(EventRequestDTO eventDTO) {
         log.info("Criando novo evento: {}", eventDTO.getTitulo());
         Event event = eventMapper.toEntity(eventDTO);
         Event savedEvent = eventRepository.save(event);
         log.info("Evento criado com sucesso. ID: {}", savedEvent.getId());
-        return eventMapper.toResponseDTO(savedEvent);
+        EventResponseDTO created = eventMapper.toResponseDTO(savedEvent);
+        eventPublisher.publishEvent(EventChangeDTO.upserted(EventChangeType.CREATED, created));
+        return created;
     }
 
     @Transactional
-    public EventResponseDTO update(Long id, EventRequestDTO eventDTO) {
+    @CacheEvict(cacheNames = CacheConfig.EVENTS_CACHE, key = "#id")
+    public long update(Long id, EventRequestDTO eventDTO, Long expectedVersion) {
         log.info("Atualizando evento com ID: {}", id);
-        Event event = eventRepository.findByIdAndDeletedFalse(id)
-                .orElseThrow(() -> new EventNotFoundException(id));
-
-        eventMapper.updateEntity(event, eventDTO);
-        Event updatedEvent = eventRepository.save(event);
-        log.info("Evento atualizado com sucesso. ID: {}", id);
-        return eventMapper.toResponseDTO(updatedEvent);
+        Instant now = Event.now();
+        long version;
+        if (expectedVersion == null) {
+            version = eventRepository.updateReturningVersion(id, eventDTO.getTitulo(), eventDTO.getDataHora(), eventDTO.getLocal(), now)
+                    .orElseThrow(() -> new EventNotFoundException(id));
+        } else {
+            int updated = eventRepository.updateByIdAndVersion(id, expectedVersion,
+                    eventDTO.getTitulo(), eventDTO.getDataHora(), eventDTO.getLocal(), now);
+            if (updated == 0) {
+                throw conflictOrNotFound(id, expectedVersion);
+            }
+            version = expectedVersion + 1;
+        }
+        log.info("Evento atualizado com sucesso. ID: {}, versão: {}", id, version);
+        eventPublisher.publishEvent(EventChangeDTO.upserted(EventChangeType.UPDATED,
+                eventMapper.toResponseDTO(id, eventDTO, version, now)));
+        return version;
     }
 
     @Transactional
-    public void delete(Long id) {
+    @CacheEvict(cacheNames = CacheConfig.EVENTS_CACHE, key = "#id")
+    public void delete(Long id, Long expectedVersion) {
         log.info("Removendo evento com ID: {}", id);
-        Event event = eventRepository.findByIdAndDeletedFalse(id)
-                .orElseThrow(() -> new EventNotFoundException(id));
+        Instant now = Event.now();
+        long version;
+        if (expectedVersion == null) {
+            version = eventRepository.softDeleteReturningVersion(id, now).orElseThrow(() -> new EventNotFoundException(id));
+        } else {
+            if (eventRepository.softDeleteByIdAndVersion(id, expectedVersion, now) == 0) {
+                throw conflictOrNotFound(id, expectedVersion);
+            }
+            version = expectedVersion + 1;
+        }
+        log.info("Evento removido com sucesso. ID: {}, versão: {}", id, version);
+        eventPublisher.publishEvent(EventChangeDTO.deleted(id, version, now));
+    }
 
-        event.setDeleted(true);
-        eventRepository.save(event);
-        log.info("Evento removido com sucesso. ID: {}", id);
+    private RuntimeException conflictOrNotFound(Long id, Long expectedVersion) {
+        return eventRepository.findVersionById(id)
+                .<RuntimeException>map(current -> {
+                    log.warn("Conflito de versão no evento com ID: {} - esperada: {}, atual: {}", id, expectedVersion, current);
+                    return new EventVersionConflictException(id, expectedVersion, current);
+                })
+                .orElseGet(() -> new EventNotFoundException(id));
     }
 }
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.dto.ChangeToken;
+import com.example.eventsapi.dto.CursorPageResponseDTO;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.entity.Event;
+import com.example.eventsapi.exception.ChangeTokenExpiredException;
+import com.example.eventsapi.entity.ArchivedEvent;
+import com.example.eventsapi.entity.SyncHorizon;
+import com.example.eventsapi.mapper.EventMapper;
+import com.example.eventsapi.repository.ArchivedEventRepository;
+import com.example.eventsapi.repository.EventRepository;
+import com.example.eventsapi.repository.SyncHorizonRepository;
+import io.micrometer.core.annotation.Timed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@Service
+@Timed(value = "events.service", histogram = true)
+public class EventSyncService {
+    static final int MAX_CHANGES_PAGE_SIZE = 1000;
+
+    private static final Comparator<EventResponseDTO> CHANGE_ORDER =
+            Comparator.comparing(EventResponseDTO::getUpdatedAt).thenComparing(EventResponseDTO::getId);
+
+    private final EventRepository eventRepository;
+    private final ArchivedEventRepository archivedEventRepository;
+    private final SyncHorizonRepository syncHorizonRepository;
+    private final EventMapper eventMapper;
+    private final Duration safetyLag;
+
+    public EventSyncService(EventRepository eventRepository,
+                            ArchivedEventRepository archivedEventRepository,
+                            SyncHorizonRepository syncHorizonRepository,
+                            EventMapper eventMapper,
+                            @Value("${events.changes.safety-lag}") Duration safetyLag) {
+        this.eventRepository = eventRepository;
+        this.archivedEventRepository = archivedEventRepository;
+        this.syncHorizonRepository = syncHorizonRepository;
+        this.eventMapper = eventMapper;
+        this.safetyLag = safetyLag;
+    }
+
+    public CursorPageResponseDTO<EventResponseDTO> findChanges(String since, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_CHANGES_PAGE_SIZE));
+        Instant until = Event.now().minus(safetyLag);
+        log.info("Buscando alterações de eventos - tamanho: {}, até: {}", pageSize, until);
+        Pageable limit = PageRequest.of(0, pageSize + 1);
+        List<Event> events;
+        List<ArchivedEvent> archived;
+        if (since == null || since.isBlank()) {
+            events = eventRepository.findFirstChangesPage(until, limit);
+            archived = archivedEventRepository.findFirstArchivedChangesPage(until, limit);
+        } else {
+            ChangeToken position = ChangeToken.decode(since);
+            events = eventRepository.findChangesAfter(position.getUpdatedAt(), position.getId(), until, limit);
+            archived = archivedEventRepository.findArchivedChangesAfter(position.getUpdatedAt(), position.getId(), until, limit);
+            Instant horizon = syncHorizonRepository.findTombstoneHorizon().orElse(Instant.EPOCH);
+            if (!position.getUpdatedAt().isAfter(horizon)) {
+                throw new ChangeTokenExpiredException(since);
+            }
+        }
+
+        List<EventResponseDTO> changes = Stream.concat(
+                        events.stream().map(eventMapper::toResponseDTO),
+                        archived.stream().map(eventMapper::toArchivedChangeDTO))
+                .sorted(CHANGE_ORDER)
+                .collect(Collectors.toList());
+        boolean hasMore = changes.size() > pageSize;
+        List<EventResponseDTO> content = hasMore ? changes.subList(0, pageSize) : changes;
+        String nextToken = since;
+        if (!content.isEmpty()) {
+            EventResponseDTO last = content.get(content.size() - 1);
+            nextToken = new ChangeToken(last.getUpdatedAt(), last.getId()).encode();
+        }
+        return new CursorPageResponseDTO<>(content, content.size(), nextToken, hasMore);
+    }
+
+    @Transactional
+    public void tombstonesRemoved(Instant upTo) {
+        if (upTo == null || syncHorizonRepository.advanceTombstoneHorizon(upTo) > 0) {
+            return;
+        }
+        if (!syncHorizonRepository.existsById(SyncHorizon.ID)) {
+            syncHorizonRepository.save(new SyncHorizon(SyncHorizon.ID, upTo));
+        }
+    }
+}
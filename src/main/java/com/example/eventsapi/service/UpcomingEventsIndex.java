@@ -0,0 +1,152 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.dto.EventChangeDTO;
+import com.example.eventsapi.dto.EventChangeType;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.entity.Event;
+import com.example.eventsapi.mapper.EventMapper;
+import com.example.eventsapi.repository.EventRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UpcomingEventsIndex {
+    static final int MAX_LIMIT = 100;
+
+    private final EventRepository eventRepository;
+    private final EventMapper eventMapper;
+    private final EntityManager entityManager;
+    private final NavigableMap<Key, EventResponseDTO> timeline = new ConcurrentSkipListMap<>();
+    private final Map<Long, Key> keys = new ConcurrentHashMap<>();
+    private Set<Long> removedDuringWarmUp;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        synchronized (this) {
+            removedDuringWarmUp = new HashSet<>();
+        }
+        try (Stream<Event> events = eventRepository.streamUpcoming(LocalDateTime.now())) {
+            events.forEach(event -> {
+                warm(eventMapper.toResponseDTO(event));
+                entityManager.detach(event);
+            });
+        } finally {
+            synchronized (this) {
+                removedDuringWarmUp = null;
+            }
+        }
+        log.info("Índice de próximos eventos carregado com {} eventos", size());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onChange(EventChangeDTO change) {
+        if (change.getType() == EventChangeType.CREATED || change.getType() == EventChangeType.UPDATED) {
+            put(change.getEvent());
+        } else {
+            remove(change.getId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${events.upcoming.prune-interval}")
+    public void prune() {
+        prune(LocalDateTime.now());
+    }
+
+    void prune(LocalDateTime now) {
+        NavigableMap<Key, EventResponseDTO> past = timeline.headMap(new Key(now, Long.MIN_VALUE), false);
+        int pruned = 0;
+        for (Key key : past.keySet()) {
+            if (keys.remove(key.id(), key)) {
+                pruned++;
+            }
+            past.remove(key);
+        }
+        if (pruned > 0) {
+            log.debug("{} eventos passados removidos do índice de próximos eventos", pruned);
+        }
+    }
+
+    public List<EventResponseDTO> next(LocalDateTime from, int limit) {
+        LocalDateTime start = from == null ? LocalDateTime.now() : from;
+        int size = Math.max(1, Math.min(limit, MAX_LIMIT));
+        List<EventResponseDTO> events = new ArrayList<>(size);
+        for (EventResponseDTO event : timeline.tailMap(new Key(start, Long.MIN_VALUE), true).values()) {
+            events.add(event);
+            if (events.size() == size) {
+                break;
+            }
+        }
+        return events;
+    }
+
+    public int size() {
+        return keys.size();
+    }
+
+    synchronized void put(EventResponseDTO event) {
+        Key previous = keys.get(event.getId());
+        if (previous != null) {
+            EventResponseDTO current = timeline.get(previous);
+            if (current != null && current.getVersion() != null && event.getVersion() != null
+                    && current.getVersion() > event.getVersion()) {
+                return;
+            }
+            timeline.remove(previous);
+        }
+        if (event.isDeleted() || event.getDataHora().isBefore(LocalDateTime.now())) {
+            keys.remove(event.getId());
+            return;
+        }
+        Key key = new Key(event.getDataHora(), event.getId());
+        timeline.put(key, event);
+        keys.put(event.getId(), key);
+    }
+
+    private synchronized void warm(EventResponseDTO event) {
+        if (!removedDuringWarmUp.contains(event.getId())) {
+            put(event);
+        }
+    }
+
+    synchronized void remove(Long id) {
+        if (removedDuringWarmUp != null) {
+            removedDuringWarmUp.add(id);
+        }
+        Key key = keys.remove(id);
+        if (key != null) {
+            timeline.remove(key);
+        }
+    }
+
+    private record Key(LocalDateTime dataHora, Long id) implements Comparable<Key> {
+        private static final Comparator<Key> ORDER = Comparator.comparing(Key::dataHora).thenComparing(Key::id);
+
+        @Override
+        public int compareTo(Key other) {
+            return ORDER.compare(this, other);
+        }
+    }
+}
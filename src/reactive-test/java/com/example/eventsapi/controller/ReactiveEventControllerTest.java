@@ -0,0 +1,216 @@
+package com.example.eventsapi.controller;
+
+import com.example.eventsapi.config.JacksonConfig;
+import com.example.eventsapi.dto.EventRequestDTO;
+import com.example.eventsapi.dto.EventResponseDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("reactive")
+@DisplayName("ReactiveEventController Tests")
+class ReactiveEventControllerTest {
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Test
+    @DisplayName("Deve ler via R2DBC o evento criado pelo serviço JPA")
+    void create_thenFindById_shouldReadFromSameDatabase() {
+        EventResponseDTO created = create("Show reativo");
+
+        webTestClient.get().uri("/api/events/{id}", created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"0\"")
+                .expectBody()
+                .jsonPath("$.titulo").isEqualTo("Show reativo")
+                .jsonPath("$.local").isEqualTo("Arena");
+    }
+
+    @Test
+    @DisplayName("Deve retornar 404 para evento inexistente")
+    void findById_whenMissing_shouldReturnNotFound() {
+        webTestClient.get().uri("/api/events/{id}", Long.MAX_VALUE)
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.status").isEqualTo(404);
+    }
+
+    @Test
+    @DisplayName("Deve retornar 400 com os erros de validação")
+    void create_whenInvalid_shouldReturnBadRequest() {
+        webTestClient.post().uri("/api/events")
+                .bodyValue(new EventRequestDTO("", null, ""))
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody()
+                .jsonPath("$.errors.titulo").exists();
+    }
+
+    @Test
+    @DisplayName("Deve paginar e exportar em NDJSON pelo R2DBC")
+    void findAll_shouldPageAndStream() {
+        EventResponseDTO first = create("Primeiro");
+        EventResponseDTO second = create("Segundo");
+
+        webTestClient.get().uri("/api/events?size=1&count=NONE&sort=id,desc")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(1)
+                .jsonPath("$.content[0].id").isEqualTo(second.getId().intValue())
+                .jsonPath("$.totalElements").doesNotExist()
+                .jsonPath("$.last").isEqualTo(false);
+
+        List<EventResponseDTO> streamed = webTestClient.get().uri("/api/events/all")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .returnResult(EventResponseDTO.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+        assertThat(streamed).extracting(EventResponseDTO::getId).contains(first.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("Deve retornar 412 quando o If-Match não corresponde à versão")
+    void update_whenIfMatchIsStale_shouldReturnPreconditionFailed() {
+        EventResponseDTO created = create("Versionado");
+
+        webTestClient.put().uri("/api/events/{id}", created.getId())
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .bodyValue(request("Versionado v1"))
+                .exchange()
+                .expectStatus().isNoContent()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"");
+
+        webTestClient.put().uri("/api/events/{id}", created.getId())
+                .header(HttpHeaders.IF_MATCH, "\"0\"")
+                .bodyValue(request("Versionado v2"))
+                .exchange()
+                .expectStatus().isEqualTo(412)
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"1\"");
+    }
+
+    @Test
+    @DisplayName("Deve responder 304 quando a coleção não mudou e um novo ETag após uma escrita")
+    void findAll_whenCollectionUnchanged_shouldReturnNotModified() {
+        create("Condicional");
+        String etag = webTestClient.get().uri("/api/events?size=5")
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.VARY, HttpHeaders.ACCEPT)
+                .returnResult(String.class)
+                .getResponseHeaders()
+                .getETag();
+
+        webTestClient.get().uri("/api/events?size=5")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isNotModified();
+
+        create("Nova escrita");
+        webTestClient.get().uri("/api/events?size=5")
+                .header(HttpHeaders.IF_NONE_MATCH, etag)
+                .exchange()
+                .expectStatus().isOk();
+    }
+
+    @Test
+    @DisplayName("Deve incluir eventos arquivados quando includeArchived=true")
+    void findAll_whenIncludeArchived_shouldReadArchiveUnion() {
+        EventResponseDTO created = create("Com arquivo");
+
+        webTestClient.get().uri("/api/events?includeArchived=true&size=1000")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[?(@.id == %d)].titulo".formatted(created.getId())).isEqualTo("Com arquivo");
+
+        webTestClient.get().uri("/api/events/{id}?includeArchived=true", created.getId())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, "\"0\"");
+    }
+
+    @Test
+    @DisplayName("Deve serializar a listagem em Smile ou CBOR conforme o Accept")
+    void findAll_whenBinaryAccepted_shouldNegotiateSmileAndCbor() {
+        create("Binário");
+
+        webTestClient.get().uri("/api/events/all")
+                .accept(MediaType.APPLICATION_CBOR)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(MediaType.APPLICATION_CBOR);
+
+        webTestClient.get().uri("/api/events?size=1")
+                .accept(MediaType.parseMediaType(JacksonConfig.APPLICATION_SMILE_VALUE))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentType(JacksonConfig.APPLICATION_SMILE_VALUE);
+    }
+
+    @Test
+    @DisplayName("Deve aceitar a criação assíncrona com Prefer: respond-async e expor o status")
+    void createAsync_whenPreferRespondAsync_shouldReturnAccepted() {
+        Map<?, ?> accepted = webTestClient.post().uri("/api/events")
+                .header("Prefer", "respond-async")
+                .bodyValue(request("Assíncrono"))
+                .exchange()
+                .expectStatus().isAccepted()
+                .expectHeader().valueEquals("Preference-Applied", "respond-async")
+                .expectBody(Map.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertThat(accepted).containsEntry("status", "PENDING");
+        Number id = (Number) accepted.get("id");
+        webTestClient.get().uri("/api/events/ingest/{id}", id.longValue())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.id").isEqualTo(id.intValue())
+                .jsonPath("$.status").exists();
+    }
+
+    @Test
+    @DisplayName("O feed SSE continua disponível apenas no modo MVC")
+    void stream_isNotServedByReactiveVariant() {
+        webTestClient.get().uri("/api/events/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .exchange()
+                .expectStatus().is4xxClientError();
+    }
+
+    private EventResponseDTO create(String titulo) {
+        return webTestClient.post().uri("/api/events")
+                .bodyValue(request(titulo))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(EventResponseDTO.class)
+                .returnResult()
+                .getResponseBody();
+    }
+
+    private static EventRequestDTO request(String titulo) {
+        return new EventRequestDTO(titulo, LocalDateTime.of(2030, 5, 10, 20, 0), "Arena");
+    }
+}
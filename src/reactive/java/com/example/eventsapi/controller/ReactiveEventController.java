@@ -0,0 +1,182 @@
+package com.example.eventsapi.controller;
+
+import com.example.eventsapi.config.JacksonConfig;
+import com.example.eventsapi.dto.BatchResponseDTO;
+import com.example.eventsapi.dto.CountMode;
+import com.example.eventsapi.dto.CursorPageResponseDTO;
+import com.example.eventsapi.dto.EventBatchUpdateDTO;
+import com.example.eventsapi.dto.EventCollectionVersion;
+import com.example.eventsapi.dto.EventRequestDTO;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.dto.EventSearchCriteria;
+import com.example.eventsapi.dto.IngestStatusDTO;
+import com.example.eventsapi.dto.PageResponseDTO;
+import com.example.eventsapi.service.ReactiveEventService;
+import com.example.eventsapi.service.UpcomingEventsIndex;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@RestController
+@Profile("reactive")
+@RequestMapping("/api/events")
+@RequiredArgsConstructor
+public class ReactiveEventController {
+    private final ReactiveEventService reactiveEventService;
+    private final UpcomingEventsIndex upcomingEventsIndex;
+
+    @GetMapping(produces = {MediaType.APPLICATION_JSON_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public Mono<ResponseEntity<PageResponseDTO<EventResponseDTO>>> findAll(
+            @PageableDefault(size = 10) Pageable pageable,
+            @RequestParam(defaultValue = "EXACT") CountMode count,
+            @RequestParam(defaultValue = "false") boolean includeArchived,
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            ServerWebExchange exchange) {
+        if (includeArchived) {
+            Mono<PageResponseDTO<EventResponseDTO>> response = count == CountMode.EXACT
+                    ? reactiveEventService.findAllIncludingArchived(pageable).map(PageResponseDTO::of)
+                    : reactiveEventService.findSliceIncludingArchived(pageable).map(slice -> PageResponseDTO.of(slice, null));
+            return response.map(page -> ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(page));
+        }
+
+        Mono<Long> approximateTotal = count == CountMode.APPROXIMATE
+                ? reactiveEventService.approximateCount()
+                : Mono.just(-1L);
+        return approximateTotal.zipWith(reactiveEventService.collectionVersion())
+                .flatMap(tuple -> {
+                    Long total = tuple.getT1() < 0 ? null : tuple.getT1();
+                    EventCollectionVersion version = tuple.getT2();
+                    String etag = version.etag(pageable.getPageNumber(), pageable.getPageSize(), pageable.getSort(), count, total, accept);
+                    if (exchange.checkNotModified(etag, version.getLastModified())) {
+                        return Mono.empty();
+                    }
+                    Mono<PageResponseDTO<EventResponseDTO>> response = switch (count) {
+                        case EXACT -> reactiveEventService.findAll(pageable).map(PageResponseDTO::of);
+                        case APPROXIMATE, NONE -> reactiveEventService.findSlice(pageable).map(slice -> PageResponseDTO.of(slice, total));
+                    };
+                    return response.map(page -> ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(page));
+                });
+    }
+
+    @GetMapping("/cursor")
+    public Mono<CursorPageResponseDTO<EventResponseDTO>> findAllByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size) {
+        return reactiveEventService.findAllByCursor(cursor, size);
+    }
+
+    @GetMapping("/upcoming")
+    public List<EventResponseDTO> findUpcoming(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(defaultValue = "10") int limit) {
+        return upcomingEventsIndex.next(from, limit);
+    }
+
+    @GetMapping("/search")
+    public Mono<PageResponseDTO<EventResponseDTO>> search(
+            EventSearchCriteria criteria,
+            @PageableDefault(size = 10) Pageable pageable) {
+        return reactiveEventService.search(criteria, pageable).map(PageResponseDTO::of);
+    }
+
+    @GetMapping("/changes")
+    public Mono<CursorPageResponseDTO<EventResponseDTO>> findChanges(
+            @RequestParam(required = false) String since,
+            @RequestParam(defaultValue = "100") int size) {
+        return reactiveEventService.findChanges(since, size);
+    }
+
+    @GetMapping(value = "/all", produces = {MediaType.APPLICATION_JSON_VALUE, JacksonConfig.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    public Mono<ResponseEntity<List<EventResponseDTO>>> findAllWithoutPagination(
+            @RequestHeader(value = HttpHeaders.ACCEPT, required = false) String accept,
+            ServerWebExchange exchange) {
+        return reactiveEventService.collectionVersion()
+                .flatMap(version -> exchange.checkNotModified(version.etag("all", accept), version.getLastModified())
+                        ? Mono.empty()
+                        : reactiveEventService.streamAll().collectList()
+                                .map(events -> ResponseEntity.ok().varyBy(HttpHeaders.ACCEPT).body(events)));
+    }
+
+    @GetMapping(value = "/all", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<EventResponseDTO> streamAll() {
+        return reactiveEventService.streamAll();
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<EventResponseDTO>> findById(@PathVariable Long id,
+                                                           @RequestParam(defaultValue = "false") boolean includeArchived) {
+        Mono<EventResponseDTO> lookup = includeArchived
+                ? reactiveEventService.findByIdIncludingArchived(id)
+                : reactiveEventService.findById(id);
+        return lookup
+                .map(event -> ResponseEntity.ok()
+                        .eTag(String.valueOf(event.getVersion()))
+                        .lastModified(event.getUpdatedAt())
+                        .body(event));
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<EventResponseDTO>> create(@Valid @RequestBody EventRequestDTO eventDTO) {
+        return reactiveEventService.create(eventDTO)
+                .map(created -> ResponseEntity.status(HttpStatus.CREATED).body(created));
+    }
+
+    @PostMapping(headers = "Prefer=respond-async")
+    public Mono<ResponseEntity<IngestStatusDTO>> createAsync(@Valid @RequestBody EventRequestDTO eventDTO) {
+        return reactiveEventService.submit(eventDTO)
+                .map(status -> ResponseEntity.accepted()
+                        .location(URI.create("/api/events/ingest/" + status.getId()))
+                        .header("Preference-Applied", "respond-async")
+                        .body(status));
+    }
+
+    @GetMapping("/ingest/{id}")
+    public Mono<IngestStatusDTO> ingestStatus(@PathVariable Long id) {
+        return reactiveEventService.ingestStatus(id);
+    }
+
+    @PutMapping("/{id}")
+    public Mono<ResponseEntity<Void>> update(@PathVariable Long id,
+                                             @Valid @RequestBody EventRequestDTO eventDTO,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return Mono.defer(() -> reactiveEventService.update(id, eventDTO, EventController.expectedVersion(ifMatch)))
+                .map(version -> ResponseEntity.noContent().eTag(String.valueOf(version)).build());
+    }
+
+    @DeleteMapping("/{id}")
+    public Mono<ResponseEntity<Void>> delete(@PathVariable Long id,
+                                             @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+        return Mono.defer(() -> reactiveEventService.delete(id, EventController.expectedVersion(ifMatch)))
+                .thenReturn(ResponseEntity.noContent().build());
+    }
+
+    @PostMapping("/batch")
+    public Mono<BatchResponseDTO> createBatch(@RequestBody List<EventRequestDTO> events) {
+        return reactiveEventService.createAll(events);
+    }
+
+    @PutMapping("/batch")
+    public Mono<BatchResponseDTO> updateBatch(@RequestBody List<EventBatchUpdateDTO> events) {
+        return reactiveEventService.updateAll(events);
+    }
+
+    @DeleteMapping("/batch")
+    public Mono<BatchResponseDTO> deleteBatch(@RequestBody List<Long> ids) {
+        return reactiveEventService.deleteAll(ids);
+    }
+}
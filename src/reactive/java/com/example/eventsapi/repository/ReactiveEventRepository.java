@@ -0,0 +1,101 @@
+package com.example.eventsapi.repository;
+
+import com.example.eventsapi.entity.Event;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+@Repository
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveEventRepository {
+    private static final String SELECT = "select id, titulo, data_hora, local, deleted, version, updated_at from events ";
+    private static final Map<String, String> SORTABLE_COLUMNS = Map.of(
+            "id", "id",
+            "titulo", "titulo",
+            "dataHora", "data_hora",
+            "local", "local"
+    );
+
+    private final DatabaseClient databaseClient;
+
+    public Flux<Event> streamByDeletedFalse() {
+        return databaseClient.sql(SELECT + "where deleted = false order by id")
+                .map(ReactiveEventRepository::toEvent)
+                .all();
+    }
+
+    public Flux<Event> findByDeletedFalse(Pageable pageable, int limit) {
+        return databaseClient.sql(SELECT + "where deleted = false order by " + orderBy(pageable.getSort())
+                        + " limit :limit offset :offset")
+                .bind("limit", limit)
+                .bind("offset", pageable.getOffset())
+                .map(ReactiveEventRepository::toEvent)
+                .all();
+    }
+
+    public Mono<Long> countByDeletedFalse() {
+        return databaseClient.sql("select count(*) from events where deleted = false")
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    public Mono<Event> findByIdAndDeletedFalse(Long id) {
+        return databaseClient.sql(SELECT + "where id = :id and deleted = false")
+                .bind("id", id)
+                .map(ReactiveEventRepository::toEvent)
+                .one();
+    }
+
+    public Flux<Event> findFirstKeysetPage(int limit) {
+        return databaseClient.sql(SELECT + "where deleted = false order by data_hora, id limit :limit")
+                .bind("limit", limit)
+                .map(ReactiveEventRepository::toEvent)
+                .all();
+    }
+
+    public Flux<Event> findKeysetPageAfter(LocalDateTime dataHora, Long id, int limit) {
+        return databaseClient.sql(SELECT + "where deleted = false and data_hora >= :dataHora"
+                        + " and (data_hora, id) > (:dataHora, :id) order by data_hora, id limit :limit")
+                .bind("dataHora", dataHora)
+                .bind("id", id)
+                .bind("limit", limit)
+                .map(ReactiveEventRepository::toEvent)
+                .all();
+    }
+
+    private static String orderBy(Sort sort) {
+        if (sort.isUnsorted()) {
+            return "id";
+        }
+        return sort.stream()
+                .filter(order -> SORTABLE_COLUMNS.containsKey(order.getProperty()))
+                .map(order -> SORTABLE_COLUMNS.get(order.getProperty()) + (order.isAscending() ? " asc" : " desc"))
+                .collect(Collectors.collectingAndThen(Collectors.joining(", "), columns -> columns.isEmpty() ? "id" : columns + ", id"));
+    }
+
+    private static Event toEvent(Readable row) {
+        Event event = new Event(
+                row.get("titulo", String.class),
+                row.get("data_hora", LocalDateTime.class),
+                row.get("local", String.class)
+        );
+        event.setId(row.get("id", Long.class));
+        event.setDeleted(Boolean.TRUE.equals(row.get("deleted", Boolean.class)));
+        event.setVersion(row.get("version", Long.class));
+        OffsetDateTime updatedAt = row.get("updated_at", OffsetDateTime.class);
+        event.setUpdatedAt(updatedAt == null ? null : updatedAt.toInstant());
+        return event;
+    }
+}
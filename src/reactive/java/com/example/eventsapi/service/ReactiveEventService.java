@@ -0,0 +1,173 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.dto.BatchResponseDTO;
+import com.example.eventsapi.dto.CursorPageResponseDTO;
+import com.example.eventsapi.dto.EventBatchUpdateDTO;
+import com.example.eventsapi.dto.EventCollectionVersion;
+import com.example.eventsapi.dto.EventCursor;
+import com.example.eventsapi.dto.EventRequestDTO;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.dto.EventSearchCriteria;
+import com.example.eventsapi.dto.IngestStatus;
+import com.example.eventsapi.dto.IngestStatusDTO;
+import com.example.eventsapi.exception.EventNotFoundException;
+import com.example.eventsapi.mapper.EventMapper;
+import com.example.eventsapi.repository.ReactiveEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+
+@Slf4j
+@Service
+@Profile("reactive")
+@RequiredArgsConstructor
+public class ReactiveEventService {
+    private final ReactiveEventRepository reactiveEventRepository;
+    private final EventMapper eventMapper;
+    private final EventService eventService;
+    private final EventBatchService eventBatchService;
+    private final EventSyncService eventSyncService;
+    private final EventSearchService eventSearchService;
+    private final EventIngestQueue eventIngestQueue;
+
+    public Flux<EventResponseDTO> streamAll() {
+        log.info("Exportando todos os eventos em streaming (reativo)");
+        return reactiveEventRepository.streamByDeletedFalse().map(eventMapper::toResponseDTO);
+    }
+
+    public Mono<Page<EventResponseDTO>> findAll(Pageable pageable) {
+        log.info("Buscando eventos paginados (reativo) - página: {}, tamanho: {}",
+                pageable.getPageNumber(), pageable.getPageSize());
+        return Mono.zip(
+                reactiveEventRepository.findByDeletedFalse(pageable, pageable.getPageSize())
+                        .map(eventMapper::toResponseDTO)
+                        .collectList(),
+                reactiveEventRepository.countByDeletedFalse()
+        ).map(result -> new PageImpl<>(result.getT1(), pageable, result.getT2()));
+    }
+
+    public Mono<Slice<EventResponseDTO>> findSlice(Pageable pageable) {
+        log.info("Buscando eventos paginados sem contagem (reativo) - página: {}, tamanho: {}",
+                pageable.getPageNumber(), pageable.getPageSize());
+        int pageSize = pageable.getPageSize();
+        return reactiveEventRepository.findByDeletedFalse(pageable, pageSize + 1)
+                .map(eventMapper::toResponseDTO)
+                .collectList()
+                .map(events -> {
+                    boolean hasNext = events.size() > pageSize;
+                    return new SliceImpl<>(hasNext ? events.subList(0, pageSize) : events, pageable, hasNext);
+                });
+    }
+
+    public Mono<Page<EventResponseDTO>> findAllIncludingArchived(Pageable pageable) {
+        return blocking(() -> eventService.findAllIncludingArchived(pageable));
+    }
+
+    public Mono<Slice<EventResponseDTO>> findSliceIncludingArchived(Pageable pageable) {
+        return blocking(() -> eventService.findSliceIncludingArchived(pageable));
+    }
+
+    public Mono<CursorPageResponseDTO<EventResponseDTO>> findAllByCursor(String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, EventService.MAX_CURSOR_PAGE_SIZE));
+        log.info("Buscando eventos por cursor (reativo) - tamanho: {}", pageSize);
+        return Mono.defer(() -> {
+                    if (cursor == null || cursor.isBlank()) {
+                        return reactiveEventRepository.findFirstKeysetPage(pageSize + 1).collectList();
+                    }
+                    EventCursor position = EventCursor.decode(cursor);
+                    return reactiveEventRepository.findKeysetPageAfter(position.getDataHora(), position.getId(), pageSize + 1)
+                            .collectList();
+                })
+                .map(events -> {
+                    boolean hasNext = events.size() > pageSize;
+                    List<EventResponseDTO> page = (hasNext ? events.subList(0, pageSize) : events).stream()
+                            .map(eventMapper::toResponseDTO)
+                            .toList();
+                    String nextCursor = null;
+                    if (hasNext) {
+                        EventResponseDTO last = page.get(page.size() - 1);
+                        nextCursor = new EventCursor(last.getDataHora(), last.getId()).encode();
+                    }
+                    return CursorPageResponseDTO.of(page, nextCursor);
+                });
+    }
+
+    public Mono<EventResponseDTO> findById(Long id) {
+        log.info("Buscando evento com ID (reativo): {}", id);
+        return reactiveEventRepository.findByIdAndDeletedFalse(id)
+                .map(eventMapper::toResponseDTO)
+                .switchIfEmpty(Mono.error(() -> new EventNotFoundException(id)));
+    }
+
+    public Mono<EventResponseDTO> findByIdIncludingArchived(Long id) {
+        return blocking(() -> eventService.findByIdIncludingArchived(id));
+    }
+
+    public Mono<Page<EventResponseDTO>> search(EventSearchCriteria criteria, Pageable pageable) {
+        return blocking(() -> eventSearchService.search(criteria, pageable));
+    }
+
+    public Mono<CursorPageResponseDTO<EventResponseDTO>> findChanges(String since, int size) {
+        return blocking(() -> eventSyncService.findChanges(since, size));
+    }
+
+    public Mono<EventCollectionVersion> collectionVersion() {
+        return blocking(eventService::collectionVersion);
+    }
+
+    public Mono<Long> approximateCount() {
+        return blocking(eventService::approximateCount);
+    }
+
+    public Mono<EventResponseDTO> create(EventRequestDTO eventDTO) {
+        return blocking(() -> eventService.create(eventDTO));
+    }
+
+    public Mono<IngestStatusDTO> submit(EventRequestDTO eventDTO) {
+        return blocking(() -> eventIngestQueue.submit(eventDTO));
+    }
+
+    public Mono<IngestStatusDTO> ingestStatus(Long id) {
+        return Mono.justOrEmpty(eventIngestQueue.status(id))
+                .switchIfEmpty(Mono.defer(() -> findById(id).map(event -> IngestStatusDTO.of(event.getId(), IngestStatus.PERSISTED))));
+    }
+
+    public Mono<Long> update(Long id, EventRequestDTO eventDTO, Long expectedVersion) {
+        return blocking(() -> eventService.update(id, eventDTO, expectedVersion));
+    }
+
+    public Mono<Void> delete(Long id, Long expectedVersion) {
+        return blocking(() -> {
+            eventService.delete(id, expectedVersion);
+            return null;
+        }).then();
+    }
+
+    public Mono<BatchResponseDTO> createAll(List<EventRequestDTO> events) {
+        return blocking(() -> eventBatchService.createAll(events));
+    }
+
+    public Mono<BatchResponseDTO> updateAll(List<EventBatchUpdateDTO> events) {
+        return blocking(() -> eventBatchService.updateAll(events));
+    }
+
+    public Mono<BatchResponseDTO> deleteAll(List<Long> ids) {
+        return blocking(() -> eventBatchService.deleteAll(ids));
+    }
+
+    private static <T> Mono<T> blocking(Callable<T> call) {
+        return Mono.fromCallable(call).subscribeOn(Schedulers.boundedElastic());
+    }
+}
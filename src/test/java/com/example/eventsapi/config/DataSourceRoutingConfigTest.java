@@ -0,0 +1,57 @@
+package com.example.eventsapi.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("DataSourceRoutingConfig Tests")
+class DataSourceRoutingConfigTest {
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(context -> context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance()))
+            .withUserConfiguration(TestConfig.class, DataSourceRoutingConfig.class)
+            .withPropertyValues(
+                    "spring.datasource.url=jdbc:h2:mem:routing-config-primary",
+                    "spring.datasource.username=sa",
+                    "events.datasource.replica-urls=jdbc:h2:mem:routing-config-replica",
+                    "events.datasource.read-your-writes=PT2S",
+                    "spring.datasource.hikari.maximum-pool-size=7",
+                    "spring.datasource.hikari.minimum-idle=2",
+                    "spring.datasource.hikari.connection-timeout=3000");
+
+    @Test
+    @DisplayName("Os pools do primário e das réplicas devem usar as configurações de spring.datasource.hikari")
+    void pools_shouldBindHikariProperties() {
+        contextRunner.run(context -> {
+            ReadWriteRoutingDataSource routing = context.getBean(ReadWriteRoutingDataSource.class);
+
+            assertThat(routing.getResolvedDataSources().values())
+                    .hasSize(2)
+                    .allSatisfy(dataSource -> {
+                        HikariDataSource pool = (HikariDataSource) dataSource;
+                        assertThat(pool.getMaximumPoolSize()).isEqualTo(7);
+                        assertThat(pool.getMinimumIdle()).isEqualTo(2);
+                        assertThat(pool.getConnectionTimeout()).isEqualTo(3000);
+                        assertThat(pool.getPoolName()).startsWith("events-");
+                    });
+        });
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(DataSourceProperties.class)
+    static class TestConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.example.eventsapi.config;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("ReadWriteRoutingDataSource Tests")
+class ReadWriteRoutingDataSourceTest {
+    private final AtomicLong clock = new AtomicLong();
+    private DataSource primary;
+    private List<DataSource> replicas;
+
+    @BeforeEach
+    void setUp() {
+        primary = h2("routing-primary");
+        replicas = List.of(h2("routing-replica-0"), h2("routing-replica-1"));
+    }
+
+    @Test
+    @DisplayName("Transações somente leitura devem ir para as réplicas em rodízio")
+    void readOnlyTransactions_shouldUseReplicasRoundRobin() {
+        TransactionTemplate reads = readOnly(routing());
+
+        List<String> nodes = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            nodes.add(node(reads));
+        }
+
+        assertThat(nodes).containsExactly("routing-replica-0", "routing-replica-1", "routing-replica-0", "routing-replica-1");
+    }
+
+    @Test
+    @DisplayName("Leituras do cliente que escreveu devem ficar no primário durante a janela, e as dos outros clientes não")
+    void reads_afterWrite_shouldStickToPrimaryOnlyForWritingClient() throws Exception {
+        DataSource dataSource = routing();
+        TransactionTemplate writes = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        TransactionTemplate reads = readOnly(dataSource);
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(2), clock::get);
+        List<String> nodes = new ArrayList<>();
+
+        MockHttpServletResponse writeResponse = new MockHttpServletResponse();
+        filter.doFilter(apiRequest(), writeResponse, (request, response) -> {
+            nodes.add(node(writes));
+            nodes.add(node(reads));
+        });
+        Cookie lastWrite = writeResponse.getCookie(ReadYourWritesFilter.COOKIE);
+        assertThat(lastWrite).isNotNull();
+
+        filter.doFilter(apiRequest(), new MockHttpServletResponse(), (request, response) -> nodes.add(node(reads)));
+
+        clock.addAndGet(Duration.ofSeconds(1).toMillis());
+        MockHttpServletRequest sameClient = apiRequest();
+        sameClient.setCookies(lastWrite);
+        filter.doFilter(sameClient, new MockHttpServletResponse(), (request, response) -> nodes.add(node(reads)));
+
+        clock.addAndGet(Duration.ofSeconds(2).toMillis());
+        MockHttpServletRequest afterWindow = apiRequest();
+        afterWindow.setCookies(lastWrite);
+        filter.doFilter(afterWindow, new MockHttpServletResponse(), (request, response) -> nodes.add(node(reads)));
+
+        assertThat(nodes).containsExactly("routing-primary", "routing-primary", "routing-replica-0", "routing-primary", "routing-replica-1");
+    }
+
+    @Test
+    @DisplayName("Conexões fora de transação devem ir para o primário sem prender as leituras nele")
+    void connections_withoutTransaction_shouldUsePrimaryWithoutStickiness() {
+        DataSource dataSource = routing();
+        TransactionTemplate reads = readOnly(dataSource);
+
+        assertThat(new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class)).isEqualTo("routing-primary");
+
+        assertThat(node(reads)).isEqualTo("routing-replica-0");
+    }
+
+    private DataSource routing() {
+        return new LazyConnectionDataSourceProxy(new ReadWriteRoutingDataSource(primary, replicas));
+    }
+
+    private MockHttpServletRequest apiRequest() {
+        return new MockHttpServletRequest("GET", "/api/events");
+    }
+
+    private TransactionTemplate readOnly(DataSource dataSource) {
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        template.setReadOnly(true);
+        return template;
+    }
+
+    private String node(TransactionTemplate template) {
+        DataSource dataSource = ((DataSourceTransactionManager) template.getTransactionManager()).getDataSource();
+        return template.execute(status -> new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS node (name VARCHAR(50))");
+        jdbcTemplate.update("DELETE FROM node");
+        jdbcTemplate.update("INSERT INTO node (name) VALUES (?)", name);
+        return dataSource;
+    }
+}
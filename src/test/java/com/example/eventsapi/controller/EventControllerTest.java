@@ -1,11 +1,37 @@
 package com.example.eventsapi.controller;
 
+import com.example.eventsapi.config.JacksonConfig;
+import com.example.eventsapi.dto.BatchItemResultDTO;
+import com.example.eventsapi.dto.BatchItemStatus;
+import com.example.eventsapi.dto.BatchResponseDTO;
+import com.example.eventsapi.dto.CursorPageResponseDTO;
+import com.example.eventsapi.dto.EventCollectionVersion;
 import com.example.eventsapi.dto.EventRequestDTO;
 import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.dto.EventSearchCriteria;
+import com.example.eventsapi.dto.IngestStatusDTO;
+import com.example.eventsapi.exception.BatchTooLargeException;
+import com.example.eventsapi.exception.ChangeTokenExpiredException;
+import com.example.eventsapi.entity.Event;
 import com.example.eventsapi.exception.EventNotFoundException;
+import com.example.eventsapi.exception.EventVersionConflictException;
 import com.example.eventsapi.exception.GlobalExceptionHandler;
+import com.example.eventsapi.exception.IngestQueueFullException;
+import com.example.eventsapi.exception.IngestQueueUnavailableException;
+import com.example.eventsapi.exception.InvalidCursorException;
+import com.example.eventsapi.service.EventBatchService;
+import com.example.eventsapi.service.EventChangeFeed;
+import com.example.eventsapi.service.EventIngestQueue;
+import com.example.eventsapi.service.EventPageCache;
+import com.example.eventsapi.service.EventSearchService;
 import com.example.eventsapi.service.EventService;
+import com.example.eventsapi.service.EventSyncService;
+import com.example.eventsapi.service.UpcomingEventsIndex;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -13,14 +39,27 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
@@ -29,25 +68,50 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @ExtendWith(MockitoExtension.class)
 @DisplayName("EventController Tests")
 class EventControllerTest {
+    private static final Instant UPDATED_AT = Instant.parse("2025-01-01T10:00:00Z");
 
     @Mock
     private EventService eventService;
 
+    @Mock
+    private EventBatchService eventBatchService;
+
+    @Mock
+    private EventChangeFeed eventChangeFeed;
+
+    @Mock
+    private EventSyncService eventSyncService;
+
+    @Mock
+    private EventSearchService eventSearchService;
+
+    @Mock
+    private UpcomingEventsIndex upcomingEventsIndex;
+
+    @Mock
+    private EventIngestQueue eventIngestQueue;
+
+    private EventPageCache eventPageCache;
     private EventController eventController;
     private MockMvc mockMvc;
     private ObjectMapper objectMapper;
 
     @BeforeEach
     void setUp() {
-        eventController = new EventController(eventService);
+        objectMapper = new ObjectMapper();
+        objectMapper.registerModule(new JavaTimeModule());
+        objectMapper.disable(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+        eventPageCache = new EventPageCache("maximumSize=100");
+        eventController = new EventController(eventService, eventBatchService, eventChangeFeed, eventSyncService,
+                eventSearchService, upcomingEventsIndex, eventPageCache, eventIngestQueue, objectMapper);
 
         mockMvc = MockMvcBuilders.standaloneSetup(eventController)
                 .setControllerAdvice(new GlobalExceptionHandler())
+                .setCustomArgumentResolvers(new PageableHandlerMethodArgumentResolver())
                 .build();
 
-        objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(com.fasterxml.jackson.databind.SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        lenient().when(eventService.collectionVersion()).thenReturn(new EventCollectionVersion(3L, UPDATED_AT));
     }
 
     @Test
@@ -71,6 +135,274 @@ class EventControllerTest {
         verify(eventService).findAll();
     }
 
+    @Test
+    @DisplayName("GET /api/events/all com Accept Smile deve retornar a lista em Smile")
+    void findAllWithoutPagination_whenSmileRequested_shouldReturnSmile() throws Exception {
+        when(eventService.findAll()).thenReturn(List.of(createEventResponseDTO(1L, "Evento 1")));
+
+        byte[] body = mockMvc.perform(get("/api/events/all").accept(JacksonConfig.APPLICATION_SMILE_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(JacksonConfig.APPLICATION_SMILE_VALUE))
+                .andExpect(header().string(HttpHeaders.VARY, HttpHeaders.ACCEPT))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        List<EventResponseDTO> events = binaryMapper(new SmileFactory()).readValue(body, new TypeReference<>() {
+        });
+        assertThat(events).extracting(EventResponseDTO::getTitulo).containsExactly("Evento 1");
+    }
+
+    @Test
+    @DisplayName("GET /api/events com Accept CBOR deve retornar a página em CBOR com ETag próprio")
+    void findAll_whenCborRequested_shouldReturnCborPage() throws Exception {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(eventService.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(createEventResponseDTO(1L, "Evento 1")), pageable, 1));
+
+        String jsonEtag = mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        MvcResult result = mockMvc.perform(get("/api/events").accept(MediaType.APPLICATION_CBOR))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        assertThat(result.getResponse().getHeader(HttpHeaders.ETAG)).isNotEqualTo(jsonEtag);
+        Map<?, ?> page = binaryMapper(new CBORFactory()).readValue(result.getResponse().getContentAsByteArray(), Map.class);
+        assertThat(page.get("totalElements")).isEqualTo(1);
+        assertThat((List<?>) page.get("content")).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("GET /api/events/all com Accept NDJSON deve transmitir um evento por linha")
+    @SuppressWarnings("unchecked")
+    void streamAll_whenNdjsonRequested_shouldStreamOneEventPerLine() throws Exception {
+        doAnswer(invocation -> {
+            Consumer<EventResponseDTO> consumer = invocation.getArgument(0);
+            consumer.accept(createEventResponseDTO(1L, "Evento 1"));
+            consumer.accept(createEventResponseDTO(2L, "Evento 2"));
+            return null;
+        }).when(eventService).streamAll(any(Consumer.class));
+
+        MvcResult result = mockMvc.perform(get("/api/events/all").accept(MediaType.APPLICATION_NDJSON))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+
+        String[] lines = body.split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readTree(lines[0]).get("titulo").asText()).isEqualTo("Evento 1");
+        assertThat(objectMapper.readTree(lines[1]).get("id").asLong()).isEqualTo(2L);
+
+        verify(eventService, never()).findAll();
+    }
+
+    @Test
+    @DisplayName("GET /api/events deve retornar página com totais exatos por padrão")
+    void findAll_whenCountNotGiven_shouldReturnExactTotals() throws Exception {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(eventService.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(createEventResponseDTO(1L, "Evento 1")), pageable, 1));
+
+        mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.totalElements").value(1))
+                .andExpect(jsonPath("$.totalPages").value(1));
+
+        verify(eventService, never()).findSlice(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("GET /api/events deve retornar 304 sem consultar a página quando a coleção não mudou")
+    void findAll_whenETagMatches_shouldReturn304WithoutQuerying() throws Exception {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(eventService.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(createEventResponseDTO(1L, "Evento 1")), pageable, 1));
+
+        String etag = mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        clearInvocations(eventService);
+
+        mockMvc.perform(get("/api/events").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/events").param("page", "1").header(HttpHeaders.IF_NONE_MATCH, etag))
+                .andExpect(status().isOk());
+
+        verify(eventService, times(1)).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("GET /api/events deve servir a página serializada do cache até a versão da coleção mudar")
+    void findAll_whenPageCached_shouldServeBytesUntilVersionChanges() throws Exception {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(eventService.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(createEventResponseDTO(1L, "Evento 1")), pageable, 1))
+                .thenReturn(new PageImpl<>(List.of(createEventResponseDTO(1L, "Evento 1 alterado")), pageable, 1));
+        when(eventService.collectionVersion()).thenReturn(
+                new EventCollectionVersion(3L, UPDATED_AT),
+                new EventCollectionVersion(3L, UPDATED_AT),
+                new EventCollectionVersion(3L, UPDATED_AT.plusSeconds(1)));
+
+        String first = mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andExpect(content().string(first));
+
+        verify(eventService, times(2)).collectionVersion();
+        verify(eventService, times(1)).findAll(any(Pageable.class));
+
+        mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].titulo").value("Evento 1 alterado"));
+        verify(eventService, times(2)).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("GET /api/events não deve reaproveitar página calculada durante uma alteração feita por outra instância")
+    void findAll_whenVersionChangesWhileBuilding_shouldNotReusePage() throws Exception {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(eventService.collectionVersion()).thenReturn(
+                new EventCollectionVersion(3L, UPDATED_AT),
+                new EventCollectionVersion(4L, UPDATED_AT.plusSeconds(1)));
+        when(eventService.findAll(any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(createEventResponseDTO(1L, "Evento 1")), pageable, 1))
+                .thenReturn(new PageImpl<>(List.of(createEventResponseDTO(2L, "Evento 2")), pageable, 2));
+
+        mockMvc.perform(get("/api/events")).andExpect(status().isOk());
+        mockMvc.perform(get("/api/events"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].titulo").value("Evento 2"));
+
+        verify(eventService, times(2)).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("GET /api/events?count=NONE deve retornar fatia sem totais")
+    void findAll_whenCountNone_shouldReturnSliceWithoutTotals() throws Exception {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(eventService.findSlice(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(createEventResponseDTO(1L, "Evento 1")), pageable, true));
+
+        mockMvc.perform(get("/api/events").param("count", "NONE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.last").value(false))
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.totalPages").doesNotExist());
+
+        verify(eventService, never()).findAll(any(Pageable.class));
+        verify(eventService, never()).approximateCount();
+    }
+
+    @Test
+    @DisplayName("GET /api/events?count=APPROXIMATE deve usar total aproximado em cache")
+    void findAll_whenCountApproximate_shouldReturnCachedTotal() throws Exception {
+        Pageable pageable = PageRequest.of(0, 10);
+        when(eventService.findSlice(any(Pageable.class)))
+                .thenReturn(new SliceImpl<>(List.of(createEventResponseDTO(1L, "Evento 1")), pageable, true));
+        when(eventService.approximateCount()).thenReturn(25L);
+
+        mockMvc.perform(get("/api/events").param("count", "APPROXIMATE"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements").value(25))
+                .andExpect(jsonPath("$.totalPages").value(3));
+
+        verify(eventService, never()).findAll(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("GET /api/events/cursor deve retornar página com próximo cursor e sem totais")
+    void findAllByCursor_whenCalled_shouldReturnCursorPage() throws Exception {
+        CursorPageResponseDTO<EventResponseDTO> page = CursorPageResponseDTO.of(
+                List.of(createEventResponseDTO(1L, "Evento 1")), "abc");
+
+        when(eventService.findAllByCursor("xyz", 1)).thenReturn(page);
+
+        mockMvc.perform(get("/api/events/cursor").param("cursor", "xyz").param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").value("abc"))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andExpect(jsonPath("$.totalElements").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("GET /api/events/upcoming deve retornar os próximos eventos do índice")
+    void findUpcoming_whenCalled_shouldReturnNextEvents() throws Exception {
+        when(upcomingEventsIndex.next(null, 5)).thenReturn(List.of(createEventResponseDTO(1L, "Próximo"), createEventResponseDTO(2L, "Depois")));
+
+        mockMvc.perform(get("/api/events/upcoming").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(1))
+                .andExpect(jsonPath("$[1].id").value(2));
+
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    @DisplayName("GET /api/events/search deve repassar os filtros e retornar a página encontrada")
+    void search_whenCalled_shouldReturnMatchingPage() throws Exception {
+        Pageable pageable = PageRequest.of(0, 10);
+        EventSearchCriteria criteria = new EventSearchCriteria("tecnica", null, "rem",
+                LocalDateTime.of(2030, 1, 1, 0, 0), null);
+        when(eventSearchService.search(eq(criteria), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(createEventResponseDTO(1L, "Entrevista Técnica")), pageable, 1));
+
+        mockMvc.perform(get("/api/events/search")
+                        .param("q", "tecnica")
+                        .param("localPrefix", "rem")
+                        .param("from", "2030-01-01T00:00:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].titulo").value("Entrevista Técnica"))
+                .andExpect(jsonPath("$.totalElements").value(1));
+    }
+
+    @Test
+    @DisplayName("GET /api/events/changes deve retornar alterações e tombstones com o próximo token")
+    void findChanges_whenCalled_shouldReturnChangesWithToken() throws Exception {
+        EventResponseDTO tombstone = createEventResponseDTO(2L, "Evento Removido");
+        tombstone.setDeleted(true);
+        when(eventSyncService.findChanges("abc", 100)).thenReturn(new CursorPageResponseDTO<>(
+                List.of(createEventResponseDTO(1L, "Evento 1"), tombstone), 2, "def", false));
+
+        mockMvc.perform(get("/api/events/changes").param("since", "abc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[1].deleted").value(true))
+                .andExpect(jsonPath("$.nextCursor").value("def"))
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /api/events/cursor deve retornar 400 para cursor inválido")
+    void findAllByCursor_whenCursorInvalid_shouldReturn400() throws Exception {
+        when(eventService.findAllByCursor("lixo", 10)).thenThrow(new InvalidCursorException("lixo"));
+
+        mockMvc.perform(get("/api/events/cursor").param("cursor", "lixo"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value(400));
+    }
+
+    @Test
+    @DisplayName("GET /api/events/changes deve retornar 410 para token expirado")
+    void findChanges_whenTokenExpired_shouldReturn410() throws Exception {
+        when(eventSyncService.findChanges("antigo", 100)).thenThrow(new ChangeTokenExpiredException("antigo"));
+
+        mockMvc.perform(get("/api/events/changes").param("since", "antigo"))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.status").value(410));
+    }
+
     @Test
     @DisplayName("GET /api/events/{id} deve retornar evento quando ID existir")
     void findById_whenEventExists_shouldReturnEvent() throws Exception {
@@ -82,11 +414,26 @@ class EventControllerTest {
         mockMvc.perform(get("/api/events/{id}", eventId))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(eventId))
-                .andExpect(jsonPath("$.titulo").value("Evento Teste"));
+                .andExpect(jsonPath("$.titulo").value("Evento Teste"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"2\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED));
 
         verify(eventService).findById(eventId);
     }
 
+    @Test
+    @DisplayName("GET /api/events/{id} deve retornar 304 quando If-None-Match coincidir com a versão")
+    void findById_whenETagMatches_shouldReturn304() throws Exception {
+        Long eventId = 1L;
+        when(eventService.findById(eventId)).thenReturn(createEventResponseDTO(eventId, "Evento Teste"));
+
+        mockMvc.perform(get("/api/events/{id}", eventId).header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/events/{id}", eventId).header(HttpHeaders.IF_NONE_MATCH, "\"1\""))
+                .andExpect(status().isOk());
+    }
+
     @Test
     @DisplayName("GET /api/events/{id} deve retornar 404 quando evento não existir")
     void findById_whenEventNotExists_shouldReturn404() throws Exception {
@@ -140,21 +487,135 @@ class EventControllerTest {
         verifyNoInteractions(eventService);
     }
 
+    @Test
+    @DisplayName("POST /api/events com Prefer: respond-async deve enfileirar e retornar 202 com a URL de status")
+    void createAsync_whenPreferAsync_shouldReturn202WithStatusLocation() throws Exception {
+        when(eventIngestQueue.submit(any(EventRequestDTO.class))).thenReturn(IngestStatusDTO.pending(42L));
+
+        mockMvc.perform(post("/api/events")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createEventRequestDTO("Evento Assíncrono"))))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, "/api/events/ingest/42"))
+                .andExpect(jsonPath("$.id").value(42))
+                .andExpect(jsonPath("$.status").value("PENDING"))
+                .andExpect(jsonPath("$.message").exists());
+
+        verifyNoInteractions(eventService);
+
+        when(eventIngestQueue.status(42L)).thenReturn(Optional.empty());
+        when(eventService.findById(42L)).thenReturn(createEventResponseDTO(42L, "Evento Assíncrono"));
+
+        mockMvc.perform(get("/api/events/ingest/42"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.status").value("PERSISTED"));
+    }
+
+    @Test
+    @DisplayName("POST /api/events com Prefer: respond-async deve retornar 429 quando a fila estiver cheia")
+    void createAsync_whenQueueFull_shouldReturn429() throws Exception {
+        when(eventIngestQueue.submit(any(EventRequestDTO.class))).thenThrow(new IngestQueueFullException(10));
+
+        mockMvc.perform(post("/api/events")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createEventRequestDTO("Evento Assíncrono"))))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.status").value(429));
+    }
+
+    @Test
+    @DisplayName("POST /api/events com Prefer: respond-async deve retornar 503 quando a fila estiver parada")
+    void createAsync_whenQueueStopped_shouldReturn503() throws Exception {
+        when(eventIngestQueue.submit(any(EventRequestDTO.class))).thenThrow(new IngestQueueUnavailableException());
+
+        mockMvc.perform(post("/api/events")
+                        .header("Prefer", "respond-async")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createEventRequestDTO("Evento Assíncrono"))))
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(jsonPath("$.status").value(503));
+    }
+
     @Test
     @DisplayName("PUT /api/events/{id} deve atualizar evento existente")
     void update_whenEventExists_shouldUpdateEvent() throws Exception {
         Long eventId = 1L;
         EventRequestDTO requestDTO = createEventRequestDTO("Evento Atualizado");
-        EventResponseDTO responseDTO = createEventResponseDTO(eventId, "Evento Atualizado");
 
-        when(eventService.update(eq(eventId), any(EventRequestDTO.class))).thenReturn(responseDTO);
+        when(eventService.update(eq(eventId), any(EventRequestDTO.class), isNull())).thenReturn(1L);
 
         mockMvc.perform(put("/api/events/{id}", eventId)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(objectMapper.writeValueAsString(requestDTO)))
-                .andExpect(status().isNoContent());
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1\""));
+
+        verify(eventService).update(eq(eventId), any(EventRequestDTO.class), isNull());
+    }
+
+    @Test
+    @DisplayName("PUT /api/events/{id} com If-Match deve repassar a versão esperada")
+    void update_whenIfMatchGiven_shouldPassExpectedVersion() throws Exception {
+        Long eventId = 1L;
+        EventRequestDTO requestDTO = createEventRequestDTO("Evento Atualizado");
+
+        when(eventService.update(eq(eventId), any(EventRequestDTO.class), eq(2L))).thenReturn(3L);
+
+        mockMvc.perform(put("/api/events/{id}", eventId)
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDTO)))
+                .andExpect(status().isNoContent())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"3\""));
+    }
 
-        verify(eventService).update(eq(eventId), any(EventRequestDTO.class));
+    @Test
+    @DisplayName("PUT /api/events/{id} deve retornar 412 quando If-Match estiver desatualizado")
+    void update_whenIfMatchStale_shouldReturn412() throws Exception {
+        Long eventId = 1L;
+        EventRequestDTO requestDTO = createEventRequestDTO("Evento Atualizado");
+
+        when(eventService.update(eq(eventId), any(EventRequestDTO.class), eq(2L)))
+                .thenThrow(new EventVersionConflictException(eventId, 2L, 5L));
+
+        mockMvc.perform(put("/api/events/{id}", eventId)
+                        .header(HttpHeaders.IF_MATCH, "\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDTO)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"5\""))
+                .andExpect(jsonPath("$.status").value(412));
+    }
+
+    @Test
+    @DisplayName("PUT /api/events/{id} deve retornar 412 quando If-Match for inválido")
+    void update_whenIfMatchMalformed_shouldReturn412() throws Exception {
+        mockMvc.perform(put("/api/events/{id}", 1L)
+                        .header(HttpHeaders.IF_MATCH, "W/\"2\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createEventRequestDTO("Evento Atualizado"))))
+                .andExpect(status().isPreconditionFailed());
+
+        verifyNoInteractions(eventService);
+    }
+
+    @Test
+    @DisplayName("PUT /api/events/{id} deve retornar 409 em conflito de bloqueio otimista")
+    void update_whenOptimisticLockFails_shouldReturn409() throws Exception {
+        Long eventId = 1L;
+
+        when(eventService.update(eq(eventId), any(EventRequestDTO.class), isNull()))
+                .thenThrow(new ObjectOptimisticLockingFailureException(Event.class, eventId));
+
+        mockMvc.perform(put("/api/events/{id}", eventId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createEventRequestDTO("Evento Atualizado"))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.status").value(409));
     }
 
     @Test
@@ -163,7 +624,7 @@ class EventControllerTest {
         Long eventId = 999L;
         EventRequestDTO requestDTO = createEventRequestDTO("Evento Atualizado");
 
-        when(eventService.update(eq(eventId), any(EventRequestDTO.class)))
+        when(eventService.update(eq(eventId), any(EventRequestDTO.class), isNull()))
                 .thenThrow(new EventNotFoundException(eventId));
 
         mockMvc.perform(put("/api/events/{id}", eventId)
@@ -173,7 +634,7 @@ class EventControllerTest {
                 .andExpect(jsonPath("$.status").value(404))
                 .andExpect(jsonPath("$.message").exists());
 
-        verify(eventService).update(eq(eventId), any(EventRequestDTO.class));
+        verify(eventService).update(eq(eventId), any(EventRequestDTO.class), isNull());
     }
 
     @Test
@@ -181,12 +642,21 @@ class EventControllerTest {
     void delete_whenEventExists_shouldDeleteEvent() throws Exception {
         Long eventId = 1L;
 
-        doNothing().when(eventService).delete(eventId);
+        doNothing().when(eventService).delete(eventId, null);
 
         mockMvc.perform(delete("/api/events/{id}", eventId))
                 .andExpect(status().isNoContent());
 
-        verify(eventService).delete(eventId);
+        verify(eventService).delete(eventId, null);
+    }
+
+    @Test
+    @DisplayName("DELETE /api/events/{id} com If-Match deve repassar a versão esperada")
+    void delete_whenIfMatchGiven_shouldPassExpectedVersion() throws Exception {
+        mockMvc.perform(delete("/api/events/{id}", 1L).header(HttpHeaders.IF_MATCH, "\"7\""))
+                .andExpect(status().isNoContent());
+
+        verify(eventService).delete(1L, 7L);
     }
 
     @Test
@@ -194,18 +664,74 @@ class EventControllerTest {
     void delete_whenEventNotExists_shouldReturn404() throws Exception {
         Long eventId = 999L;
 
-        doThrow(new EventNotFoundException(eventId)).when(eventService).delete(eventId);
+        doThrow(new EventNotFoundException(eventId)).when(eventService).delete(eventId, null);
 
         mockMvc.perform(delete("/api/events/{id}", eventId))
                 .andExpect(status().isNotFound())
                 .andExpect(jsonPath("$.status").value(404))
                 .andExpect(jsonPath("$.message").exists());
 
-        verify(eventService).delete(eventId);
+        verify(eventService).delete(eventId, null);
+    }
+
+    @Test
+    @DisplayName("POST /api/events/batch deve retornar resultado por item")
+    void createBatch_whenCalled_shouldReturnPerItemResults() throws Exception {
+        List<EventRequestDTO> requests = List.of(createEventRequestDTO("Evento 1"), createEventRequestDTO(""));
+        BatchResponseDTO response = BatchResponseDTO.of(List.of(
+                BatchItemResultDTO.of(0, 1L, BatchItemStatus.CREATED),
+                new BatchItemResultDTO(1, null, BatchItemStatus.INVALID, Map.of("titulo", "O título é obrigatório"))));
+
+        when(eventBatchService.createAll(anyList())).thenReturn(response);
+
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total").value(2))
+                .andExpect(jsonPath("$.succeeded").value(1))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].id").value(1))
+                .andExpect(jsonPath("$.results[1].status").value("INVALID"))
+                .andExpect(jsonPath("$.results[1].errors.titulo").exists());
+    }
+
+    @Test
+    @DisplayName("DELETE /api/events/batch deve remover eventos pelo ID")
+    void deleteBatch_whenCalled_shouldReturnPerItemResults() throws Exception {
+        BatchResponseDTO response = BatchResponseDTO.of(List.of(
+                BatchItemResultDTO.of(0, 1L, BatchItemStatus.DELETED),
+                BatchItemResultDTO.of(1, 999L, BatchItemStatus.NOT_FOUND)));
+
+        when(eventBatchService.deleteAll(List.of(1L, 999L))).thenReturn(response);
+
+        mockMvc.perform(delete("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[1, 999]"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.results[0].status").value("DELETED"))
+                .andExpect(jsonPath("$.results[1].status").value("NOT_FOUND"));
+    }
+
+    @Test
+    @DisplayName("POST /api/events/batch deve retornar 413 quando o lote exceder o limite")
+    void createBatch_whenTooLarge_shouldReturn413() throws Exception {
+        when(eventBatchService.createAll(anyList())).thenThrow(new BatchTooLargeException(20_000, 10_000));
+
+        mockMvc.perform(post("/api/events/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[]"))
+                .andExpect(status().isPayloadTooLarge())
+                .andExpect(jsonPath("$.status").value(413));
+    }
+
+    private ObjectMapper binaryMapper(JsonFactory factory) {
+        return new ObjectMapper(factory).registerModule(new JavaTimeModule());
     }
 
     private EventResponseDTO createEventResponseDTO(Long id, String titulo) {
-        return new EventResponseDTO(id, titulo, LocalDateTime.now().plusDays(1), "Local Teste", false);
+        return new EventResponseDTO(id, titulo, LocalDateTime.now().plusDays(1), "Local Teste", false, 2L, UPDATED_AT);
     }
 
     private EventRequestDTO createEventRequestDTO(String titulo) {
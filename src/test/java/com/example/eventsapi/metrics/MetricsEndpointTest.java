@@ -0,0 +1,61 @@
+package com.example.eventsapi.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@DisplayName("Metrics Endpoint Tests")
+class MetricsEndpointTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("Deve contar as consultas SQL por endpoint")
+    void request_shouldRecordQueryCountPerEndpoint() throws Exception {
+        mockMvc.perform(get("/api/events").param("count", "EXACT"))
+                .andExpect(status().isOk());
+
+        DistributionSummary queries = meterRegistry.get(QueryCountFilter.METRIC_NAME)
+                .tag("uri", "/api/events")
+                .tag("method", "GET")
+                .summary();
+        assertThat(queries.count()).isGreaterThanOrEqualTo(1);
+        assertThat(queries.max()).isGreaterThanOrEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Deve expor as métricas no formato Prometheus")
+    void prometheus_shouldExposeHotPathMetrics() throws Exception {
+        mockMvc.perform(get("/api/events/all")).andExpect(status().isOk());
+
+        String body = mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        assertThat(body)
+                .contains("http_server_requests_seconds_bucket")
+                .contains("events_service_seconds_bucket")
+                .contains("spring_data_repository_invocations_seconds_bucket")
+                .contains("events_http_queries_bucket")
+                .contains("hibernate_statements_total")
+                .contains("hikaricp_connections_acquire_seconds_bucket")
+                .contains("cache_gets_total");
+    }
+}
@@ -0,0 +1,218 @@
+package com.example.eventsapi.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("EventLogStore Tests")
+class EventLogStoreTest {
+    private static final Instant BASE = Instant.parse("2025-01-01T10:00:00.123456Z");
+    private static final LocalDateTime DATA_HORA = LocalDateTime.of(2030, 5, 10, 14, 30, 15, 654321000);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("find() e scan() devem retornar o registro mais recente de cada evento, em ordem de ID")
+    void findAndScan_shouldReturnLatestEntryInIdOrder() throws IOException {
+        try (EventLogStore store = new EventLogStore(dir.resolve("events.log"), 4096)) {
+            store.append(entry(3, 0, "Evento 3"));
+            store.append(entry(1, 0, "Evento 1"));
+            store.append(entry(1, 1, "Evento 1 atualizado"));
+            store.append(entry(2, 0, "Eventô 2"));
+
+            assertThat(store.find(1)).hasValueSatisfying(entry -> {
+                assertThat(entry.version()).isEqualTo(1);
+                assertThat(entry.titulo()).isEqualTo("Evento 1 atualizado");
+                assertThat(entry.dataHora()).isEqualTo(DATA_HORA);
+                assertThat(entry.updatedAt()).isEqualTo(BASE.plusSeconds(1));
+            });
+            assertThat(store.find(2)).hasValueSatisfying(entry -> assertThat(entry.titulo()).isEqualTo("Eventô 2"));
+            assertThat(store.find(99)).isEmpty();
+
+            List<Long> ids = new ArrayList<>();
+            store.scan(entry -> ids.add(entry.id()));
+            assertThat(ids).containsExactly(1L, 2L, 3L);
+            assertThat(store.garbageRatio()).isGreaterThan(0);
+        }
+    }
+
+    @Test
+    @DisplayName("append() deve ignorar versões mais antigas que a já registrada")
+    void append_whenVersionOlder_shouldBeIgnored() throws IOException {
+        try (EventLogStore store = new EventLogStore(dir.resolve("events.log"), 4096)) {
+            assertThat(store.append(entry(1, 2, "Versão 2"))).isTrue();
+            assertThat(store.append(entry(1, 1, "Versão 1"))).isFalse();
+
+            assertThat(store.find(1)).hasValueSatisfying(entry -> assertThat(entry.titulo()).isEqualTo("Versão 2"));
+        }
+    }
+
+    @Test
+    @DisplayName("O log deve crescer além do tamanho inicial e sobreviver à reabertura")
+    void reopen_shouldRecoverAllEntries() throws IOException {
+        Path path = dir.resolve("events.log");
+        try (EventLogStore store = new EventLogStore(path, 4096)) {
+            for (long id = 1; id <= 500; id++) {
+                store.append(entry(id, 0, "Evento " + id));
+            }
+        }
+
+        try (EventLogStore store = new EventLogStore(path, 4096)) {
+            assertThat(store.size()).isEqualTo(500);
+            assertThat(store.find(500)).hasValueSatisfying(entry -> assertThat(entry.titulo()).isEqualTo("Evento 500"));
+            assertThat(store.horizon()).isEqualTo(Instant.EPOCH);
+        }
+    }
+
+    @Test
+    @DisplayName("A recuperação deve descartar um registro corrompido no fim do log e continuar gravando depois dele")
+    void reopen_whenTailCorrupted_shouldDiscardIt() throws IOException {
+        Path path = dir.resolve("events.log");
+        try (EventLogStore store = new EventLogStore(path, 4096)) {
+            store.append(entry(1, 0, "Evento 1"));
+            store.append(entry(2, 0, "Evento 2"));
+        }
+        try (RandomAccessFile file = new RandomAccessFile(path.toFile(), "rw")) {
+            long lastTitle = indexOf(Files.readAllBytes(path), "Evento 2");
+            file.seek(lastTitle);
+            file.write('X');
+        }
+
+        try (EventLogStore store = new EventLogStore(path, 4096)) {
+            assertThat(store.find(1)).isPresent();
+            assertThat(store.find(2)).isEmpty();
+            store.append(entry(3, 0, "Evento 3"));
+        }
+        try (EventLogStore store = new EventLogStore(path, 4096)) {
+            assertThat(store.size()).isEqualTo(2);
+            assertThat(store.find(3)).isPresent();
+        }
+    }
+
+    @Test
+    @DisplayName("compact() deve manter apenas o registro mais recente dos eventos aceitos")
+    void compact_shouldKeepLatestAcceptedEntries() throws IOException {
+        Path path = dir.resolve("events.log");
+        try (EventLogStore store = new EventLogStore(path, 4096)) {
+            for (int version = 0; version < 50; version++) {
+                store.append(entry(1, version, "Evento 1"));
+            }
+            store.append(entry(2, 0, "Evento 2"));
+            store.append(new EventLogStore.Entry(2, 1, "Evento 2", DATA_HORA, "Local", true, false, BASE, BASE));
+            store.append(new EventLogStore.Entry(3, 0, "Evento 3", DATA_HORA, "Local", false, true, BASE, BASE));
+
+            int dropped = store.compact(entry -> !entry.deleted());
+
+            assertThat(dropped).isEqualTo(1);
+            assertThat(store.horizon()).isEqualTo(BASE);
+            assertThat(store.garbageRatio()).isZero();
+            assertThat(store.find(1)).hasValueSatisfying(entry -> assertThat(entry.version()).isEqualTo(49));
+            assertThat(store.find(2)).isEmpty();
+            store.append(entry(4, 0, "Evento 4"));
+        }
+
+        try (EventLogStore store = new EventLogStore(path, 4096)) {
+            assertThat(store.size()).isEqualTo(3);
+            assertThat(store.horizon()).isEqualTo(BASE);
+            assertThat(store.find(3)).hasValueSatisfying(entry -> assertThat(entry.archived()).isTrue());
+            assertThat(store.find(4)).isPresent();
+        }
+    }
+
+    @Test
+    @DisplayName("purge() deve remover o evento, avançar o horizonte e valer também após a reabertura")
+    void purge_shouldRemoveEntryAndSurviveReopen() throws IOException {
+        Path path = dir.resolve("events.log");
+        try (EventLogStore store = new EventLogStore(path, 4096)) {
+            store.append(entry(1, 0, "Evento 1"));
+            store.append(new EventLogStore.Entry(2, 1, "Evento 2", DATA_HORA, "Local", true, false, BASE.plusSeconds(5), BASE));
+
+            assertThat(store.purge(2)).isTrue();
+            assertThat(store.purge(99)).isFalse();
+
+            assertThat(store.find(2)).isEmpty();
+            assertThat(store.horizon()).isEqualTo(BASE.plusSeconds(5));
+        }
+
+        try (EventLogStore store = new EventLogStore(path, 4096)) {
+            assertThat(store.size()).isEqualTo(1);
+            assertThat(store.find(2)).isEmpty();
+            assertThat(store.horizon()).isEqualTo(BASE.plusSeconds(5));
+        }
+    }
+
+    @Test
+    @DisplayName("remove() deve descartar o evento sem mover o horizonte, também após a reabertura")
+    void remove_shouldDropEntryWithoutMovingHorizon() throws IOException {
+        Path path = dir.resolve("events.log");
+        try (EventLogStore store = new EventLogStore(path, 4096)) {
+            store.append(entry(1, 0, "Evento 1"));
+            store.append(new EventLogStore.Entry(2, 0, "Evento 2", DATA_HORA, "Local", false, false, BASE.plusSeconds(5), BASE));
+
+            assertThat(store.remove(2)).isTrue();
+            assertThat(store.remove(2)).isFalse();
+
+            assertThat(store.find(2)).isEmpty();
+            assertThat(store.horizon()).isEqualTo(Instant.EPOCH);
+        }
+
+        try (EventLogStore store = new EventLogStore(path, 4096)) {
+            assertThat(store.size()).isEqualTo(1);
+            assertThat(store.find(2)).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("revert() deve restaurar o registro anterior, mesmo com versão menor, ou remover um evento novo")
+    void revert_shouldRestorePreviousEntry() throws IOException {
+        Path path = dir.resolve("events.log");
+        try (EventLogStore store = new EventLogStore(path, 4096)) {
+            EventLogStore.Entry original = entry(1, 0, "Original");
+            store.append(original);
+            store.append(entry(1, 1, "Não confirmado"));
+            store.append(entry(2, 0, "Criado e desfeito"));
+
+            store.revert(1, original);
+            store.revert(2, null);
+
+            assertThat(store.find(1)).hasValueSatisfying(entry -> assertThat(entry.titulo()).isEqualTo("Original"));
+            assertThat(store.find(2)).isEmpty();
+            assertThat(store.horizon()).isEqualTo(Instant.EPOCH);
+        }
+
+        try (EventLogStore store = new EventLogStore(path, 4096)) {
+            assertThat(store.find(1)).hasValueSatisfying(entry -> assertThat(entry.version()).isZero());
+            assertThat(store.find(2)).isEmpty();
+        }
+    }
+
+    private EventLogStore.Entry entry(long id, long version, String titulo) {
+        return new EventLogStore.Entry(id, version, titulo, DATA_HORA, "Local", false, false, BASE.plusSeconds(version), BASE);
+    }
+
+    private static long indexOf(byte[] content, String text) {
+        byte[] target = text.getBytes(java.nio.charset.StandardCharsets.UTF_8);
+        outer:
+        for (int i = 0; i <= content.length - target.length; i++) {
+            for (int j = 0; j < target.length; j++) {
+                if (content[i + j] != target[j]) {
+                    continue outer;
+                }
+            }
+            return i;
+        }
+        throw new IllegalStateException(text);
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.eventsapi.repository;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@DisplayName("EventRepository Index Tests")
+class EventRepositoryIndexTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    void seed() {
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO events (id, titulo, data_hora, local, deleted, version, updated_at) VALUES (?, ?, DATEADD('MINUTE', ?, CURRENT_TIMESTAMP), ?, ?, 0, CURRENT_TIMESTAMP)",
+                IntStream.rangeClosed(1, 5_000)
+                        .mapToObj(i -> new Object[]{i, "Evento " + i, i, "Local " + (i % 50), i % 10 == 0})
+                        .toList());
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    @Test
+    @DisplayName("listagem cronológica deve usar o índice (deleted, data_hora, id)")
+    void chronologicalListing_shouldUseDeletedDataHoraIdIndex() {
+        String plan = explain("SELECT * FROM events WHERE deleted = FALSE ORDER BY data_hora, id LIMIT 10");
+
+        assertThat(plan).containsIgnoringCase("IDX_EVENTS_DELETED_DATA_HORA_ID");
+    }
+
+    @Test
+    @DisplayName("página seguinte do cursor deve buscar no índice a partir da data/hora do cursor")
+    void keysetPageAfter_shouldSeekDeletedDataHoraIdIndexFromCursor() {
+        String plan = explain("SELECT * FROM events WHERE deleted = FALSE AND data_hora >= TIMESTAMP '2030-01-01 00:00:00' "
+                + "AND (data_hora, id) > (TIMESTAMP '2030-01-01 00:00:00', 10) ORDER BY data_hora, id LIMIT 10");
+
+        assertThat(plan).containsIgnoringWhitespaces("IDX_EVENTS_DELETED_DATA_HORA_ID: DELETED = FALSE AND DATA_HORA >=");
+    }
+
+    @Test
+    @DisplayName("busca por ID de evento ativo deve usar a chave primária")
+    void lookupById_shouldUsePrimaryKey() {
+        String plan = explain("SELECT * FROM events WHERE id = 1 AND deleted = FALSE");
+
+        assertThat(plan).containsIgnoringCase("PRIMARY_KEY");
+    }
+
+    @Test
+    @DisplayName("filtro por local deve usar o índice de local")
+    void filterByLocal_shouldUseLocalIndex() {
+        String plan = explain("SELECT * FROM events WHERE local = 'Remoto'");
+
+        assertThat(plan).containsIgnoringCase("IDX_EVENTS_LOCAL");
+    }
+
+    @Test
+    @DisplayName("sincronização incremental deve usar o índice (updated_at, id)")
+    void changesSince_shouldUseUpdatedAtIdIndex() {
+        String plan = explain("SELECT * FROM events WHERE updated_at >= TIMESTAMP '2025-01-01 00:00:00' "
+                + "ORDER BY updated_at, id LIMIT 100");
+
+        assertThat(plan).containsIgnoringCase("IDX_EVENTS_UPDATED_AT_ID");
+    }
+
+    private String explain(String sql) {
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+}
@@ -0,0 +1,131 @@
+package com.example.eventsapi.repository;
+
+import com.example.eventsapi.dto.EventCollectionVersion;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.entity.Event;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@DisplayName("EventRepository Tests")
+class EventRepositoryTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Long first;
+    private Long second;
+    private Long deleted;
+    private Long fourth;
+    private Long last;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update("DELETE FROM events");
+        first = save("Evento 1", BASE, false);
+        second = save("Evento 2", BASE.plusHours(1), false);
+        deleted = save("Evento 3", BASE.plusHours(1), true);
+        fourth = save("Evento 4", BASE.plusHours(1), false);
+        last = save("Evento 5", BASE.plusHours(2), false);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("findByIdAndDeletedFalse() não deve retornar eventos deletados")
+    void findByIdAndDeletedFalse_whenDeleted_shouldBeEmpty() {
+        assertThat(eventRepository.findByIdAndDeletedFalse(second)).hasValueSatisfying(event -> assertThat(event.getTitulo()).isEqualTo("Evento 2"));
+        assertThat(eventRepository.findByIdAndDeletedFalse(deleted)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Listagem, fatia e contagem devem ignorar eventos deletados")
+    void findAndCountByDeletedFalse_shouldSkipDeletedEvents() {
+        Slice<?> slice = eventRepository.findSliceByDeletedFalse(PageRequest.of(0, 3, Sort.by("dataHora", "id")));
+
+        assertThat(slice.getContent()).extracting("id").containsExactly(first, second, fourth);
+        assertThat(slice.hasNext()).isTrue();
+        assertThat(eventRepository.findByDeletedFalse()).extracting("id").containsExactlyInAnyOrder(first, second, fourth, last);
+        assertThat(eventRepository.countByDeletedFalse()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Listagem paginada deve projetar DTOs ordenados sem carregar entidades")
+    void findByDeletedFalse_shouldProjectSortedDtosWithoutManagedEntities() {
+        Page<EventResponseDTO> page = eventRepository.findByDeletedFalse(PageRequest.of(1, 2, Sort.by(Sort.Direction.DESC, "dataHora", "id")));
+
+        assertThat(page.getContent()).extracting(EventResponseDTO::getId).containsExactly(second, first);
+        assertThat(page.getContent()).allSatisfy(event -> {
+            assertThat(event.isDeleted()).isFalse();
+            assertThat(event.getVersion()).isZero();
+            assertThat(event.getUpdatedAt()).isNotNull();
+        });
+        assertThat(page.getTotalElements()).isEqualTo(4);
+        assertThat(entityManager.unwrap(Session.class).getStatistics().getEntityCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Atualização e remoção sem versão esperada devem devolver a nova versão no mesmo comando")
+    void updateAndSoftDeleteReturningVersion_shouldReturnNewVersion() {
+        assertThat(eventRepository.updateReturningVersion(second, "Evento Atualizado", BASE, "Outro Local", Event.now())).contains(1L);
+        assertThat(eventRepository.updateReturningVersion(deleted, "Evento Atualizado", BASE, "Outro Local", Event.now())).isEmpty();
+        assertThat(eventRepository.softDeleteReturningVersion(second, Event.now())).contains(2L);
+        assertThat(eventRepository.softDeleteReturningVersion(second, Event.now())).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findCollectionVersion() deve mudar com escritas feitas direto no banco e com a saída de linhas")
+    void findCollectionVersion_whenRowsChangeOutsideApi_shouldChange() {
+        EventCollectionVersion initial = eventRepository.findCollectionVersion();
+        assertThat(initial.getRows()).isEqualTo(5);
+        assertThat(eventRepository.findCollectionVersion()).isEqualTo(initial);
+
+        jdbcTemplate.update("UPDATE events SET titulo = 'Alterado', updated_at = ? WHERE id = ?",
+                Timestamp.from(initial.getLastModified().plusSeconds(1)), first);
+        EventCollectionVersion updated = eventRepository.findCollectionVersion();
+        assertThat(updated.getLastModified()).isAfter(initial.getLastModified());
+
+        jdbcTemplate.update("DELETE FROM events WHERE id = ?", second);
+        EventCollectionVersion removed = eventRepository.findCollectionVersion();
+        assertThat(removed.getRows()).isEqualTo(4);
+        assertThat(removed.etag()).isNotEqualTo(updated.etag());
+    }
+
+    @Test
+    @DisplayName("findKeysetPageAfter() deve continuar depois do cursor mesmo com data/hora repetida")
+    void findKeysetPageAfter_whenDataHoraTies_shouldContinueAfterCursorId() {
+        assertThat(eventRepository.findKeysetPageAfter(BASE.plusHours(1), second, PageRequest.of(0, 10)))
+                .extracting("id").containsExactly(fourth, last);
+        assertThat(eventRepository.findKeysetPageAfter(BASE, first, PageRequest.of(0, 2)))
+                .extracting("id").containsExactly(second, fourth);
+        assertThat(eventRepository.findKeysetPageAfter(BASE.plusHours(2), last, PageRequest.of(0, 10))).isEmpty();
+    }
+
+    private Long save(String titulo, LocalDateTime dataHora, boolean deleted) {
+        Event event = new Event(titulo, dataHora, "Local");
+        event.setDeleted(deleted);
+        return eventRepository.save(event).getId();
+    }
+}
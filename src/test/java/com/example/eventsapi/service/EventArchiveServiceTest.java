@@ -0,0 +1,177 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.dto.ChangeToken;
+import com.example.eventsapi.dto.EventCollectionVersion;
+import com.example.eventsapi.dto.EventRequestDTO;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.entity.Event;
+import com.example.eventsapi.exception.EventNotFoundException;
+import com.example.eventsapi.mapper.EventMapper;
+import com.example.eventsapi.repository.ArchivedEventRepository;
+import com.example.eventsapi.repository.EventRepository;
+import com.example.eventsapi.repository.SyncHorizonRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+@SpringBootTest
+@DisplayName("EventArchiveService Tests")
+class EventArchiveServiceTest {
+
+    @Autowired
+    private EventArchiveService eventArchiveService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ArchivedEventRepository archivedEventRepository;
+
+    @Autowired
+    private UpcomingEventsIndex upcomingEventsIndex;
+
+    @Autowired
+    private EventSyncService eventSyncService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("archive() deve mover eventos passados para o arquivo, mantendo-os disponíveis com includeArchived")
+    void archive_whenEventIsPast_shouldMoveToArchive() {
+        LocalDateTime now = LocalDateTime.now();
+        Event past = eventRepository.saveAndFlush(new Event("Evento Passado", now.minusDays(2), "Local"));
+        Event recent = eventRepository.saveAndFlush(new Event("Evento de Ontem", now.minusHours(1), "Local"));
+        EventResponseDTO future = eventService.create(createEvent("Evento Futuro", now.plusDays(2)));
+        eventService.findById(past.getId());
+
+        int archived = eventArchiveService.archive(now, Event.now());
+
+        assertThat(archived).isGreaterThanOrEqualTo(1);
+        assertThat(eventRepository.findById(past.getId())).isEmpty();
+        assertThat(archivedEventRepository.findById(past.getId())).hasValueSatisfying(event -> {
+            assertThat(event.getTitulo()).isEqualTo("Evento Passado");
+            assertThat(event.getVersion()).isEqualTo(past.getVersion());
+        });
+        assertThat(eventRepository.findById(recent.getId())).isPresent();
+        assertThat(eventRepository.findById(future.getId())).isPresent();
+
+        assertThatThrownBy(() -> eventService.findById(past.getId())).isInstanceOf(EventNotFoundException.class);
+        assertThat(eventService.findByIdIncludingArchived(past.getId()).getTitulo()).isEqualTo("Evento Passado");
+        assertThat(eventService.findAllIncludingArchived(PageRequest.of(0, 1000)).getContent())
+                .extracting(EventResponseDTO::getId)
+                .contains(past.getId(), recent.getId(), future.getId());
+    }
+
+    @Test
+    @DisplayName("archive() deve mover eventos removidos apenas depois da retenção de tombstones")
+    void archive_whenEventDeleted_shouldWaitForTombstoneAge() {
+        LocalDateTime now = LocalDateTime.now();
+        EventResponseDTO deleted = eventService.create(createEvent("Evento Removido", now.plusDays(5)));
+        eventService.delete(deleted.getId(), null);
+
+        eventArchiveService.archive(now, Event.now());
+        assertThat(eventRepository.findById(deleted.getId())).isPresent();
+
+        eventArchiveService.archive(now, Event.now().plus(Duration.ofDays(8)));
+        assertThat(eventRepository.findById(deleted.getId())).isEmpty();
+        assertThat(archivedEventRepository.findById(deleted.getId())).hasValueSatisfying(event -> assertThat(event.isDeleted()).isTrue());
+        assertThatThrownBy(() -> eventService.findByIdIncludingArchived(deleted.getId())).isInstanceOf(EventNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("archive() deve remover os eventos arquivados dos índices em memória")
+    void archive_whenEventArchived_shouldRemoveFromIndexes() {
+        LocalDateTime now = LocalDateTime.now();
+        EventResponseDTO event = eventService.create(createEvent("Evento Indexado", now.plusDays(3)));
+        assertThat(upcomingEventsIndex.next(now, 1000)).extracting(EventResponseDTO::getId).contains(event.getId());
+
+        eventArchiveService.archive(now.plusDays(5), Event.now());
+
+        assertThat(archivedEventRepository.findById(event.getId())).isPresent();
+        assertThat(upcomingEventsIndex.next(now, 1000)).extracting(EventResponseDTO::getId).doesNotContain(event.getId());
+    }
+
+    @Test
+    @DisplayName("archive() deve reportar eventos arquivados como removidos em /changes")
+    void archive_whenEventArchived_shouldAppearAsTombstoneInChanges() {
+        LocalDateTime now = LocalDateTime.now();
+        Instant before = Event.now().minusSeconds(1);
+        Event past = eventRepository.saveAndFlush(new Event("Evento Sincronizado", now.minusDays(2), "Local"));
+        String since = new ChangeToken(before, 0L).encode();
+
+        eventArchiveService.archive(now, Event.now());
+
+        EventSyncService sync = new EventSyncService(eventRepository, archivedEventRepository,
+                mock(SyncHorizonRepository.class), new EventMapper(), Duration.ZERO);
+        assertThat(sync.findChanges(since, 1000).getContent())
+                .filteredOn(change -> change.getId().equals(past.getId()))
+                .singleElement()
+                .satisfies(change -> assertThat(change.isDeleted()).isTrue());
+    }
+
+    @Test
+    @DisplayName("archive() deve parar em max-rows e deixar o restante para a próxima execução")
+    void archive_whenMoreRowsThanMaxRows_shouldStopAtBudget() {
+        LocalDateTime now = LocalDateTime.now();
+        eventArchiveService.archive(now, Event.now());
+        for (int i = 0; i < 5; i++) {
+            eventRepository.saveAndFlush(new Event("Evento Passado " + i, now.minusDays(2), "Local"));
+        }
+        EventArchiveService throttled = new EventArchiveService(eventRepository, archivedEventRepository, eventSyncService,
+                transactionManager, cacheManager, eventPublisher, Duration.ofDays(1), Duration.ofDays(7), 2, 3, Duration.ZERO);
+
+        assertThat(throttled.archive(now, Event.now())).isEqualTo(3);
+        assertThat(throttled.archive(now, Event.now())).isEqualTo(2);
+        assertThat(throttled.archive(now, Event.now())).isZero();
+    }
+
+    @Test
+    @DisplayName("A versão da coleção deve mudar quando um evento arquivado é substituído por um novo")
+    void collectionVersion_whenEventArchivedAndAnotherCreated_shouldChangeEtag() {
+        LocalDateTime now = LocalDateTime.now();
+        eventRepository.saveAndFlush(new Event("Evento Passado", now.minusDays(2), "Local"));
+        eventArchiveService.archive(now, Event.now());
+        Event past = eventRepository.saveAndFlush(new Event("Outro Evento Passado", now.minusDays(2), "Local"));
+        EventCollectionVersion before = eventService.collectionVersion();
+
+        eventArchiveService.archive(now, Event.now());
+        EventCollectionVersion archived = eventService.collectionVersion();
+        eventService.create(createEvent("Evento Substituto", now.plusDays(2)));
+        EventCollectionVersion after = eventService.collectionVersion();
+
+        assertThat(eventRepository.findById(past.getId())).isEmpty();
+        assertThat(archived.etag()).isNotEqualTo(before.etag());
+        assertThat(after.etag()).isNotEqualTo(archived.etag());
+        assertThat(after.getLastModified()).isAfterOrEqualTo(before.getLastModified());
+    }
+
+    private EventRequestDTO createEvent(String titulo, LocalDateTime dataHora) {
+        EventRequestDTO dto = new EventRequestDTO();
+        dto.setTitulo(titulo);
+        dto.setDataHora(dataHora);
+        dto.setLocal("Local Teste");
+        return dto;
+    }
+}
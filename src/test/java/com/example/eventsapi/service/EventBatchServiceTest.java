@@ -0,0 +1,237 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.config.CacheConfig;
+import com.example.eventsapi.dto.BatchItemStatus;
+import com.example.eventsapi.dto.BatchResponseDTO;
+import com.example.eventsapi.dto.EventBatchUpdateDTO;
+import com.example.eventsapi.dto.EventChangeDTO;
+import com.example.eventsapi.dto.EventChangeType;
+import com.example.eventsapi.dto.EventRequestDTO;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.entity.Event;
+import com.example.eventsapi.exception.BatchTooLargeException;
+import com.example.eventsapi.mapper.EventMapper;
+import com.example.eventsapi.repository.EventRepository;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventBatchService Tests")
+class EventBatchServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Mock
+    private CacheManager cacheManager;
+
+    @Mock
+    private Cache eventsCache;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    private EventBatchService eventBatchService;
+
+    @BeforeEach
+    void setUp() {
+        when(cacheManager.getCache(CacheConfig.EVENTS_CACHE)).thenReturn(eventsCache);
+        eventBatchService = new EventBatchService(
+                eventRepository,
+                new EventMapper(),
+                Validation.buildDefaultValidatorFactory().getValidator(),
+                transactionManager,
+                cacheManager,
+                eventPublisher,
+                2,
+                10
+        );
+    }
+
+    @Test
+    @DisplayName("createAll() deve persistir itens válidos em blocos e reportar os inválidos")
+    @SuppressWarnings("unchecked")
+    void createAll_whenSomeItemsInvalid_shouldPersistValidInChunks() {
+        AtomicLong ids = new AtomicLong();
+        when(eventRepository.saveAll(anyList())).thenAnswer(invocation -> {
+            List<Event> events = invocation.getArgument(0);
+            events.forEach(event -> event.setId(ids.incrementAndGet()));
+            return events;
+        });
+
+        List<EventRequestDTO> requests = List.of(
+                createEventRequestDTO("Evento 1"),
+                createEventRequestDTO(""),
+                createEventRequestDTO("Evento 3"),
+                createEventRequestDTO("Evento 4")
+        );
+
+        BatchResponseDTO result = eventBatchService.createAll(requests);
+
+        assertThat(result.getTotal()).isEqualTo(4);
+        assertThat(result.getSucceeded()).isEqualTo(3);
+        assertThat(result.getResults()).extracting(r -> r.getStatus())
+                .containsExactly(BatchItemStatus.CREATED, BatchItemStatus.INVALID, BatchItemStatus.CREATED, BatchItemStatus.CREATED);
+        assertThat(result.getResults().get(1).getErrors()).containsKey("titulo");
+
+        verify(eventRepository, times(2)).saveAll(anyList());
+        verify(transactionManager, times(2)).commit(any());
+        verify(eventsCache, times(3)).put(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("createAll() deve marcar o bloco como falho quando a persistência falhar")
+    void createAll_whenChunkFails_shouldMarkChunkAsFailed() {
+        when(eventRepository.saveAll(anyList())).thenThrow(new DataIntegrityViolationException("erro"));
+
+        BatchResponseDTO result = eventBatchService.createAll(List.of(createEventRequestDTO("Evento 1")));
+
+        assertThat(result.getFailed()).isEqualTo(1);
+        assertThat(result.getResults().get(0).getStatus()).isEqualTo(BatchItemStatus.FAILED);
+        assertThat(result.getResults().get(0).getId()).isNull();
+        verify(eventsCache, never()).put(any(), any());
+    }
+
+    @Test
+    @DisplayName("updateAll() deve atualizar encontrados e reportar não encontrados")
+    void updateAll_whenSomeEventsMissing_shouldReportNotFound() {
+        Event existing = new Event("Original", LocalDateTime.now().plusDays(1), "Local");
+        existing.setId(1L);
+        when(eventRepository.findByIdInAndDeletedFalse(anyCollection())).thenReturn(List.of(existing));
+
+        BatchResponseDTO result = eventBatchService.updateAll(List.of(
+                new EventBatchUpdateDTO(1L, "Atualizado", LocalDateTime.now().plusDays(2), "Novo Local"),
+                new EventBatchUpdateDTO(999L, "Inexistente", LocalDateTime.now().plusDays(2), "Local")
+        ));
+
+        assertThat(result.getResults()).extracting(r -> r.getStatus())
+                .containsExactly(BatchItemStatus.UPDATED, BatchItemStatus.NOT_FOUND);
+        assertThat(existing.getTitulo()).isEqualTo("Atualizado");
+        InOrder inOrder = inOrder(eventRepository, eventsCache);
+        inOrder.verify(eventRepository).flush();
+        inOrder.verify(eventsCache).put(eq(1L), any());
+    }
+
+    @Test
+    @DisplayName("updateAll() deve repetir o bloco item a item após um conflito e reportar só o item desatualizado")
+    void updateAll_whenVersionConflict_shouldRetryItemsIndividually() {
+        Event first = new Event("Original 1", LocalDateTime.now().plusDays(1), "Local");
+        first.setId(1L);
+        first.setVersion(2L);
+        Event second = new Event("Original 2", LocalDateTime.now().plusDays(1), "Local");
+        second.setId(2L);
+        second.setVersion(5L);
+        when(eventRepository.findByIdInAndDeletedFalse(anyCollection())).thenReturn(List.of(first, second));
+        doThrow(new ObjectOptimisticLockingFailureException(Event.class, null)).when(eventRepository).flush();
+        when(eventRepository.updateReturningVersion(eq(1L), any(), any(), any(), any(Instant.class))).thenReturn(Optional.of(3L));
+        when(eventRepository.updateByIdAndVersion(eq(2L), eq(5L), any(), any(), any(), any(Instant.class))).thenReturn(0);
+        when(eventRepository.findVersionById(2L)).thenReturn(Optional.of(6L));
+
+        BatchResponseDTO result = eventBatchService.updateAll(List.of(
+                new EventBatchUpdateDTO(1L, "Atualizado 1", LocalDateTime.now().plusDays(2), "Local"),
+                new EventBatchUpdateDTO(2L, 5L, "Atualizado 2", LocalDateTime.now().plusDays(2), "Local")
+        ));
+
+        assertThat(result.getResults()).extracting(r -> r.getStatus())
+                .containsExactly(BatchItemStatus.UPDATED, BatchItemStatus.CONFLICT);
+        verify(transactionManager).rollback(any());
+        verify(eventsCache).put(eq(1L), argThat(response -> ((EventResponseDTO) response).getVersion().equals(3L)));
+        verify(eventPublisher, times(1)).publishEvent(argThat((EventChangeDTO change) -> change.getId().equals(1L)));
+    }
+
+    @Test
+    @DisplayName("updateAll() deve reportar conflito sem gravar quando a versão do item não coincide")
+    void updateAll_whenItemVersionStale_shouldReportConflict() {
+        Event existing = new Event("Original", LocalDateTime.now().plusDays(1), "Local");
+        existing.setId(1L);
+        existing.setVersion(4L);
+        when(eventRepository.findByIdInAndDeletedFalse(anyCollection())).thenReturn(List.of(existing));
+
+        BatchResponseDTO result = eventBatchService.updateAll(List.of(
+                new EventBatchUpdateDTO(1L, 3L, "Atualizado", LocalDateTime.now().plusDays(2), "Local")
+        ));
+
+        assertThat(result.getResults()).extracting(r -> r.getStatus()).containsExactly(BatchItemStatus.CONFLICT);
+        assertThat(existing.getTitulo()).isEqualTo("Original");
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    @DisplayName("updateAll() e deleteAll() devem rejeitar IDs repetidos no lote")
+    void batch_whenIdRepeated_shouldRejectDuplicates() {
+        Event existing = new Event("Original", LocalDateTime.now().plusDays(1), "Local");
+        existing.setId(1L);
+        when(eventRepository.findByIdInAndDeletedFalse(anyCollection())).thenReturn(List.of(existing));
+        when(eventRepository.findActiveIds(anyCollection())).thenReturn(List.of(1L));
+
+        BatchResponseDTO updated = eventBatchService.updateAll(List.of(
+                new EventBatchUpdateDTO(1L, "Primeiro", LocalDateTime.now().plusDays(2), "Local"),
+                new EventBatchUpdateDTO(1L, "Segundo", LocalDateTime.now().plusDays(2), "Local")
+        ));
+        BatchResponseDTO deleted = eventBatchService.deleteAll(List.of(1L, 1L));
+
+        assertThat(updated.getResults()).extracting(r -> r.getStatus())
+                .containsExactly(BatchItemStatus.UPDATED, BatchItemStatus.INVALID);
+        assertThat(existing.getTitulo()).isEqualTo("Primeiro");
+        assertThat(deleted.getResults()).extracting(r -> r.getStatus())
+                .containsExactly(BatchItemStatus.DELETED, BatchItemStatus.INVALID);
+        verify(eventPublisher, times(2)).publishEvent(any(EventChangeDTO.class));
+    }
+
+    @Test
+    @DisplayName("deleteAll() deve remover ativos com um único UPDATE por bloco")
+    void deleteAll_whenCalled_shouldSoftDeleteActiveIds() {
+        when(eventRepository.findActiveIds(anyCollection())).thenReturn(List.of(1L));
+
+        BatchResponseDTO result = eventBatchService.deleteAll(Arrays.asList(1L, 999L, null));
+
+        assertThat(result.getResults()).extracting(r -> r.getStatus())
+                .containsExactly(BatchItemStatus.DELETED, BatchItemStatus.NOT_FOUND, BatchItemStatus.INVALID);
+        verify(eventRepository).softDeleteAllByIdIn(eq(Collections.singleton(1L)), any(Instant.class));
+        verify(eventsCache).evict(1L);
+        verify(eventPublisher).publishEvent(argThat((EventChangeDTO change) ->
+                change.getType() == EventChangeType.DELETED && change.getId().equals(1L)));
+    }
+
+    @Test
+    @DisplayName("createAll() deve rejeitar lotes acima do limite")
+    void createAll_whenTooLarge_shouldThrowException() {
+        List<EventRequestDTO> requests = Collections.nCopies(11, createEventRequestDTO("Evento"));
+
+        assertThatThrownBy(() -> eventBatchService.createAll(requests))
+                .isInstanceOf(BatchTooLargeException.class);
+
+        verifyNoInteractions(eventRepository);
+    }
+
+    private EventRequestDTO createEventRequestDTO(String titulo) {
+        return new EventRequestDTO(titulo, LocalDateTime.now().plusDays(1), "Local Teste");
+    }
+}
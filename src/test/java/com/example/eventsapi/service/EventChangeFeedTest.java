@@ -0,0 +1,136 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.controller.EventController;
+import com.example.eventsapi.dto.EventChangeDTO;
+import com.example.eventsapi.dto.EventChangeType;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@DisplayName("EventChangeFeed Tests")
+class EventChangeFeedTest {
+
+    @Test
+    @DisplayName("Deve enviar alterações publicadas após a assinatura")
+    void onChange_whenSubscribed_shouldPushChange() throws Exception {
+        EventChangeFeed feed = createFeed(new SyncTaskExecutor(), 10, 10);
+        MvcResult result = subscribe(feed, null);
+
+        feed.onChange(created(1L));
+
+        String body = result.getResponse().getContentAsString();
+        assertThat(body).contains("event:change", "id:" + feed.epoch() + "-1", "\"type\":\"CREATED\"", "\"id\":1");
+    }
+
+    @Test
+    @DisplayName("Deve reenviar as alterações posteriores ao Last-Event-ID")
+    void subscribe_whenLastEventIdInWindow_shouldReplayMissedChanges() throws Exception {
+        EventChangeFeed feed = createFeed(new SyncTaskExecutor(), 10, 10);
+        feed.onChange(created(1L));
+        feed.onChange(created(2L));
+        feed.onChange(EventChangeDTO.deleted(1L, 1L, Instant.now()));
+
+        String body = subscribe(feed, feed.epoch() + "-1").getResponse().getContentAsString();
+
+        assertThat(body).doesNotContain("id:" + feed.epoch() + "-1\n").contains("id:" + feed.epoch() + "-2", "id:" + feed.epoch() + "-3", "\"type\":\"DELETED\"");
+    }
+
+    @Test
+    @DisplayName("Deve enviar reset quando o Last-Event-ID estiver fora do buffer")
+    void subscribe_whenLastEventIdOutOfWindow_shouldSendReset() throws Exception {
+        EventChangeFeed feed = createFeed(new SyncTaskExecutor(), 2, 10);
+        for (long id = 1; id <= 5; id++) {
+            feed.onChange(created(id));
+        }
+
+        String body = subscribe(feed, feed.epoch() + "-1").getResponse().getContentAsString();
+
+        assertThat(body).contains("event:reset", "id:" + feed.epoch() + "-5").doesNotContain("event:change");
+    }
+
+    @Test
+    @DisplayName("Deve enviar reset quando o Last-Event-ID for de uma execução anterior do servidor")
+    void subscribe_whenLastEventIdFromOlderEpoch_shouldSendReset() throws Exception {
+        EventChangeFeed feed = createFeed(new SyncTaskExecutor(), 10, 10);
+        feed.onChange(created(1L));
+        feed.onChange(created(2L));
+
+        String body = subscribe(feed, "epocaantiga-1").getResponse().getContentAsString();
+        String legacy = subscribe(feed, "1").getResponse().getContentAsString();
+
+        assertThat(body).contains("event:reset", "execução anterior").doesNotContain("event:change");
+        assertThat(legacy).contains("event:reset").doesNotContain("event:change");
+    }
+
+    @Test
+    @DisplayName("Deve desconectar o assinante quando a fila de envio própria do feed estiver cheia")
+    void onChange_whenSenderQueueFull_shouldDropSubscriber() throws Exception {
+        TaskExecutor saturated = task -> {
+            throw new TaskRejectedException("fila cheia");
+        };
+        EventChangeFeed feed = createFeed(saturated, 10, 10);
+        subscribe(feed, null);
+
+        feed.onChange(created(1L));
+
+        assertThat(feed.subscriberCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("Deve desconectar assinantes que não acompanham o ritmo")
+    void onChange_whenSubscriberBufferFull_shouldDropSubscriber() throws Exception {
+        TaskExecutor stalled = task -> { };
+        EventChangeFeed feed = createFeed(stalled, 10, 2);
+        subscribe(feed, null);
+        assertThat(feed.subscriberCount()).isEqualTo(1);
+
+        for (long id = 1; id <= 3; id++) {
+            feed.onChange(created(id));
+        }
+
+        assertThat(feed.subscriberCount()).isZero();
+    }
+
+    private EventChangeFeed createFeed(TaskExecutor executor, int replaySize, int subscriberBuffer) {
+        return new EventChangeFeed(executor, replaySize, subscriberBuffer, Duration.ofMinutes(1));
+    }
+
+    private MvcResult subscribe(EventChangeFeed feed, String lastEventId) throws Exception {
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        EventController controller = new EventController(
+                mock(EventService.class), mock(EventBatchService.class), feed, mock(EventSyncService.class),
+                mock(EventSearchService.class), mock(UpcomingEventsIndex.class), mock(EventPageCache.class),
+                mock(EventIngestQueue.class), objectMapper);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
+        MockHttpServletRequestBuilder builder = get("/api/events/stream");
+        if (lastEventId != null) {
+            builder.header("Last-Event-ID", lastEventId);
+        }
+        return mockMvc.perform(builder)
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private EventChangeDTO created(Long id) {
+        return EventChangeDTO.upserted(EventChangeType.CREATED, new EventResponseDTO(
+                id, "Evento " + id, LocalDateTime.now().plusDays(1), "Local", false, 0L, Instant.now()));
+    }
+}
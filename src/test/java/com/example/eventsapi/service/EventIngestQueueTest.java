@@ -0,0 +1,189 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.dto.EventRequestDTO;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.dto.IngestStatus;
+import com.example.eventsapi.dto.IngestStatusDTO;
+import com.example.eventsapi.exception.IngestQueueFullException;
+import com.example.eventsapi.exception.IngestQueueUnavailableException;
+import com.example.eventsapi.mapper.EventMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@DisplayName("EventIngestQueue Tests")
+class EventIngestQueueTest {
+
+    @Autowired
+    private EventIngestQueue eventIngestQueue;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventIdAllocator eventIdAllocator;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Test
+    @DisplayName("submit() deve gravar o evento em segundo plano e marcar o status como PERSISTED")
+    void submit_whenAccepted_shouldPersistInBackground() throws InterruptedException {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            IngestStatusDTO status = eventIngestQueue.submit(createEventRequestDTO("Evento Assíncrono " + i));
+            assertThat(status.getStatus()).isEqualTo(IngestStatus.PENDING);
+            assertThat(status.getMessage()).isNotBlank();
+            ids.add(status.getId());
+        }
+        EventResponseDTO synchronous = eventService.create(createEventRequestDTO("Evento Síncrono"));
+
+        for (Long id : ids) {
+            awaitPersisted(id);
+            assertThat(eventService.findById(id).getTitulo()).startsWith("Evento Assíncrono");
+        }
+        Set<Long> unique = new HashSet<>(ids);
+        unique.add(synchronous.getId());
+        assertThat(unique).hasSize(ids.size() + 1);
+    }
+
+    @Test
+    @DisplayName("submit() deve rejeitar novos eventos quando a fila estiver cheia")
+    void submit_whenQueueFull_shouldThrow() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        JdbcTemplate blocked = mock(JdbcTemplate.class);
+        when(blocked.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            release.await();
+            return new int[0];
+        });
+        EventIngestQueue queue = createQueue(blocked, 1, "");
+        queue.start();
+        try {
+            queue.submit(createEventRequestDTO("Em gravação"));
+            awaitEmpty(queue);
+            queue.submit(createEventRequestDTO("Na fila"));
+
+            assertThatThrownBy(() -> queue.submit(createEventRequestDTO("Excedente")))
+                    .isInstanceOf(IngestQueueFullException.class);
+            assertThat(queue.size()).isEqualTo(1);
+        } finally {
+            release.countDown();
+            queue.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("submit() deve rejeitar novos eventos quando a fila não estiver em execução")
+    void submit_whenNotRunning_shouldThrow() throws IOException {
+        EventIngestQueue stopped = createQueue(jdbcTemplate, 10, "");
+
+        assertThatThrownBy(() -> stopped.submit(createEventRequestDTO("Antes de iniciar")))
+                .isInstanceOf(IngestQueueUnavailableException.class);
+
+        stopped.start();
+        stopped.stop();
+        assertThatThrownBy(() -> stopped.submit(createEventRequestDTO("Depois de parar")))
+                .isInstanceOf(IngestQueueUnavailableException.class);
+        assertThat(stopped.size()).isZero();
+        assertThat(stopped.getPhase()).isLessThan(SmartLifecycle.DEFAULT_PHASE - 2048);
+    }
+
+    @Test
+    @DisplayName("start() deve gravar com os mesmos IDs os eventos que ficaram no diário de ingestão")
+    void start_whenJournalHasPendingEvents_shouldPersistThemWithSameIds(@TempDir Path dir) throws Exception {
+        String journalPath = dir.resolve("ingest.journal").toString();
+        CountDownLatch release = new CountDownLatch(1);
+        JdbcTemplate blocked = mock(JdbcTemplate.class);
+        when(blocked.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            release.await();
+            return new int[0];
+        });
+        EventIngestQueue crashed = createQueue(blocked, 10, journalPath);
+        crashed.start();
+        try {
+            List<Long> ids = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                IngestStatusDTO status = crashed.submit(createEventRequestDTO("Evento no Diário " + i));
+                assertThat(status.getMessage()).contains("diário");
+                ids.add(status.getId());
+            }
+
+            EventIngestQueue restarted = createQueue(jdbcTemplate, 10, journalPath);
+            restarted.start();
+            try {
+                for (Long id : ids) {
+                    assertThat(restarted.status(id).map(IngestStatusDTO::getStatus)).contains(IngestStatus.PERSISTED);
+                    assertThat(eventService.findById(id).getTitulo()).startsWith("Evento no Diário");
+                }
+                assertThat(eventService.create(createEventRequestDTO("Depois do Diário")).getId())
+                        .isGreaterThan(ids.get(ids.size() - 1));
+            } finally {
+                restarted.stop();
+                restarted.close();
+            }
+        } finally {
+            release.countDown();
+            crashed.stop();
+            crashed.close();
+        }
+    }
+
+    private EventIngestQueue createQueue(JdbcTemplate template, int capacity, String journalPath) throws IOException {
+        return new EventIngestQueue(eventIdAllocator, new EventMapper(), template, transactionManager, eventPublisher,
+                new SimpleMeterRegistry(), capacity, 10, "maximumSize=10", journalPath, DataSize.ofKilobytes(64),
+                Duration.ofSeconds(1));
+    }
+
+    private void awaitEmpty(EventIngestQueue queue) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (queue.size() > 0) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private void awaitPersisted(Long id) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (eventIngestQueue.status(id).map(IngestStatusDTO::getStatus).orElseThrow() != IngestStatus.PERSISTED) {
+            assertThat(System.currentTimeMillis()).isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private EventRequestDTO createEventRequestDTO(String titulo) {
+        EventRequestDTO dto = new EventRequestDTO();
+        dto.setTitulo(titulo);
+        dto.setDataHora(LocalDateTime.now().plusDays(10));
+        dto.setLocal("Local Teste");
+        return dto;
+    }
+}
@@ -0,0 +1,193 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.dto.ChangeToken;
+import com.example.eventsapi.dto.EventRequestDTO;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.entity.Event;
+import com.example.eventsapi.exception.ChangeTokenExpiredException;
+import com.example.eventsapi.exception.EventNotFoundException;
+import com.example.eventsapi.repository.EventLogStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.datasource.url=jdbc:h2:mem:event-log-test")
+@ActiveProfiles("event-log")
+@DisplayName("EventLogService Tests")
+class EventLogServiceTest {
+    private static final Path LOG_PATH = createLogPath();
+
+    @Autowired
+    private EventLogService eventLogService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private EventArchiveService eventArchiveService;
+
+    @Autowired
+    private EventSyncService eventSyncService;
+
+    @Autowired
+    private EventPurgeService eventPurgeService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @DynamicPropertySource
+    static void logPath(DynamicPropertyRegistry registry) {
+        registry.add("events.log.path", LOG_PATH::toString);
+        registry.add("events.ingest.journal-path", () -> LOG_PATH.resolveSibling("ingest.journal").toString());
+    }
+
+    @Test
+    @DisplayName("restore() deve recarregar os eventos do log sem reutilizar IDs")
+    void restore_shouldReloadEventsFromLog() {
+        EventResponseDTO kept = eventService.create(createEvent("Evento Persistido"));
+        eventService.update(kept.getId(), createEvent("Evento Persistido Atualizado"), kept.getVersion());
+        EventResponseDTO removed = eventService.create(createEvent("Evento Removido"));
+        eventService.delete(removed.getId(), null);
+
+        assertThat(eventLogService.find(kept.getId())).hasValueSatisfying(entry -> {
+            assertThat(entry.titulo()).isEqualTo("Evento Persistido Atualizado");
+            assertThat(entry.version()).isEqualTo(kept.getVersion() + 1);
+        });
+        assertThat(eventLogService.find(removed.getId())).hasValueSatisfying(entry -> assertThat(entry.deleted()).isTrue());
+
+        jdbcTemplate.update("DELETE FROM events");
+        jdbcTemplate.update("DELETE FROM events_archive");
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+        eventLogService.restore();
+
+        EventResponseDTO restored = eventService.findById(kept.getId());
+        assertThat(restored.getTitulo()).isEqualTo("Evento Persistido Atualizado");
+        assertThat(restored.getVersion()).isEqualTo(kept.getVersion() + 1);
+        assertThat(jdbcTemplate.queryForObject("SELECT deleted FROM events WHERE id = ?", Boolean.class, removed.getId())).isTrue();
+
+        EventResponseDTO created = eventService.create(createEvent("Evento Novo"));
+        assertThat(created.getId()).isGreaterThan(removed.getId());
+        assertThat(eventLogService.find(created.getId())).map(EventLogStore.Entry::titulo).contains("Evento Novo");
+    }
+
+    @Test
+    @DisplayName("restore() deve reconstruir o horizonte de sincronização a partir dos tombstones arquivados")
+    void restore_shouldRebuildTombstoneHorizon(@TempDir Path dir) throws IOException {
+        Instant before = Event.now().minusSeconds(1);
+        EventResponseDTO removed = eventService.create(createEvent("Evento Removido e Arquivado"));
+        eventService.delete(removed.getId(), null);
+        eventArchiveService.archive(LocalDateTime.now(), Event.now().plus(Duration.ofDays(8)));
+        eventLogService.flush();
+        Path copy = Files.copy(LOG_PATH, dir.resolve("events.log"));
+
+        jdbcTemplate.update("DELETE FROM events");
+        jdbcTemplate.update("DELETE FROM events_archive");
+        jdbcTemplate.update("DELETE FROM sync_horizon");
+        EventLogService restored = new EventLogService(jdbcTemplate, eventSyncService, copy.toString(),
+                DataSize.ofMegabytes(1), 0.5, Duration.ofDays(30));
+        try {
+            restored.restore();
+
+            assertThatThrownBy(() -> eventSyncService.findChanges(new ChangeToken(before, 0L).encode(), 10))
+                    .isInstanceOf(ChangeTokenExpiredException.class);
+        } finally {
+            restored.close();
+        }
+    }
+
+    @Test
+    @DisplayName("findById(), findAll() e streamAll() devem ler os eventos do log")
+    void reads_shouldBeServedFromLog() {
+        EventResponseDTO event = eventService.create(createEvent("Evento Lido do Log"));
+        EventResponseDTO removed = eventService.create(createEvent("Evento Removido do Log"));
+        eventService.delete(removed.getId(), null);
+
+        jdbcTemplate.update("DELETE FROM events WHERE id = ?", event.getId());
+        cacheManager.getCacheNames().forEach(name -> cacheManager.getCache(name).clear());
+
+        assertThat(eventService.findById(event.getId()).getTitulo()).isEqualTo("Evento Lido do Log");
+        assertThatThrownBy(() -> eventService.findById(removed.getId())).isInstanceOf(EventNotFoundException.class);
+        assertThat(eventService.findAll()).extracting(EventResponseDTO::getId)
+                .contains(event.getId())
+                .doesNotContain(removed.getId());
+        List<Long> streamed = new ArrayList<>();
+        eventService.streamAll(streamedEvent -> streamed.add(streamedEvent.getId()));
+        assertThat(streamed).contains(event.getId()).doesNotContain(removed.getId()).isSorted();
+    }
+
+    @Test
+    @DisplayName("purge() deve registrar a remoção definitiva no log, para que o evento não volte na restauração")
+    void purge_shouldRemoveTombstoneFromLog() {
+        EventResponseDTO removed = eventService.create(createEvent("Evento Expurgado"));
+        eventService.delete(removed.getId(), null);
+
+        eventPurgeService.purge(Event.now().plus(Duration.ofDays(31)));
+
+        assertThat(eventLogService.find(removed.getId())).isEmpty();
+        jdbcTemplate.update("DELETE FROM events");
+        jdbcTemplate.update("DELETE FROM events_archive");
+        eventLogService.restore();
+        assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM events WHERE id = ?", Integer.class, removed.getId())).isZero();
+    }
+
+    @Test
+    @DisplayName("Uma alteração gravada no log antes do commit deve ser desfeita se a transação não for confirmada")
+    void onChange_whenCommitFails_shouldRevertLog() {
+        AtomicLong id = new AtomicLong();
+
+        assertThatThrownBy(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            id.set(eventService.create(createEvent("Evento Não Confirmado")).getId());
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    throw new IllegalStateException("commit falhou");
+                }
+            });
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(eventLogService.find(id.get())).isEmpty();
+    }
+
+    private EventRequestDTO createEvent(String titulo) {
+        return new EventRequestDTO(titulo, LocalDateTime.now().plusDays(5).withNano(0), "Local Teste");
+    }
+
+    private static Path createLogPath() {
+        try {
+            return Files.createTempDirectory("eventsapi-log-test").resolve("events.log");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.dto.ChangeToken;
+import com.example.eventsapi.dto.EventRequestDTO;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.entity.Event;
+import com.example.eventsapi.exception.ChangeTokenExpiredException;
+import com.example.eventsapi.mapper.EventMapper;
+import com.example.eventsapi.repository.ArchivedEventRepository;
+import com.example.eventsapi.repository.EventRepository;
+import com.example.eventsapi.repository.SyncHorizonRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+
+@SpringBootTest
+@DisplayName("EventPurgeService Tests")
+class EventPurgeServiceTest {
+
+    @Autowired
+    private EventPurgeService eventPurgeService;
+
+    @Autowired
+    private EventArchiveService eventArchiveService;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventSyncService eventSyncService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ArchivedEventRepository archivedEventRepository;
+
+    @Autowired
+    private SyncHorizonRepository syncHorizonRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("purge() deve remover apenas tombstones mais antigos que a retenção, nas duas tabelas")
+    void purge_whenTombstonesOlderThanRetention_shouldDeleteThem() {
+        LocalDateTime now = LocalDateTime.now();
+        EventResponseDTO active = eventService.create(createEvent("Evento Ativo", now.plusDays(60)));
+        EventResponseDTO deleted = eventService.create(createEvent("Evento Removido", now.plusDays(60)));
+        EventResponseDTO archived = eventService.create(createEvent("Evento Removido e Arquivado", now.plusDays(60)));
+        eventService.delete(deleted.getId(), null);
+        eventService.delete(archived.getId(), null);
+        eventArchiveService.archive(now, Event.now().plus(Duration.ofDays(8)));
+        eventService.delete(eventService.create(createEvent("Evento Removido Depois", now.plusDays(60))).getId(), null);
+        double purgedBefore = purgedRows("events") + purgedRows("events_archive");
+
+        eventPurgeService.purge(Event.now());
+        assertThat(archivedEventRepository.findById(archived.getId())).isPresent();
+
+        int purged = eventPurgeService.purge(Event.now().plus(Duration.ofDays(31)));
+
+        assertThat(purged).isGreaterThanOrEqualTo(3);
+        assertThat(eventRepository.findById(active.getId())).isPresent();
+        assertThat(eventRepository.findById(deleted.getId())).isEmpty();
+        assertThat(archivedEventRepository.findById(deleted.getId())).isEmpty();
+        assertThat(archivedEventRepository.findById(archived.getId())).isEmpty();
+        assertThat(purgedRows("events") + purgedRows("events_archive") - purgedBefore).isEqualTo(purged);
+        assertThat(meterRegistry.get("events.purge").timer().count()).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("purge() deve invalidar tokens anteriores aos tombstones removidos, também em outra instância")
+    void purge_whenTombstonesRemoved_shouldExpireOlderChangeTokens() {
+        Instant before = Event.now().minusSeconds(1);
+        EventResponseDTO deleted = eventService.create(createEvent("Evento Removido", LocalDateTime.now().plusDays(60)));
+        eventService.delete(deleted.getId(), null);
+
+        eventPurgeService.purge(Event.now().plus(Duration.ofDays(31)));
+
+        assertThatThrownBy(() -> eventSyncService.findChanges(new ChangeToken(before, 0L).encode(), 10))
+                .isInstanceOf(ChangeTokenExpiredException.class);
+        EventSyncService otherInstance = new EventSyncService(eventRepository, archivedEventRepository,
+                syncHorizonRepository, new EventMapper(), Duration.ZERO);
+        assertThatThrownBy(() -> otherInstance.findChanges(new ChangeToken(before, 0L).encode(), 10))
+                .isInstanceOf(ChangeTokenExpiredException.class);
+    }
+
+    private double purgedRows(String table) {
+        return meterRegistry.get("events.purge.rows").tag("table", table).counter().count();
+    }
+
+    private EventRequestDTO createEvent(String titulo, LocalDateTime dataHora) {
+        EventRequestDTO dto = new EventRequestDTO();
+        dto.setTitulo(titulo);
+        dto.setDataHora(dataHora);
+        dto.setLocal("Local Teste");
+        return dto;
+    }
+}
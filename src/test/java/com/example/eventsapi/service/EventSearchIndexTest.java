@@ -0,0 +1,121 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.dto.EventChangeDTO;
+import com.example.eventsapi.dto.EventChangeType;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.dto.EventSearchCriteria;
+import com.example.eventsapi.entity.Event;
+import com.example.eventsapi.repository.EventRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@DisplayName("EventSearchIndex Tests")
+class EventSearchIndexTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2030, 1, 1, 10, 0);
+
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventSearchIndex(null, null);
+        index.index(event(1L, 0L, "Entrevista Técnica", "Remoto", BASE));
+        index.index(event(2L, 0L, "Técnica de entrevista: entrevista em grupo", "Recife", BASE.plusDays(1)));
+        index.index(event(3L, 0L, "Workshop de Java", "São Paulo", BASE.plusDays(2)));
+        index.index(event(4L, 0L, "Reunião técnica", "Remoto", BASE.plusDays(3)));
+    }
+
+    @Test
+    @DisplayName("Deve buscar palavras do título ignorando acentos e maiúsculas, ordenando por relevância")
+    void search_whenTermsGiven_shouldMatchAllTermsRankedByRelevance() {
+        Page<Long> result = search(new EventSearchCriteria("ENTREVISTA tecnica", null, null, null, null));
+
+        assertThat(result.getContent()).containsExactly(1L, 2L);
+        assertThat(result.getTotalElements()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Deve filtrar por local exato e por prefixo")
+    void search_whenLocalGiven_shouldFilterExactAndPrefix() {
+        assertThat(search(new EventSearchCriteria(null, "remoto", null, null, null)).getContent())
+                .containsExactly(1L, 4L);
+        assertThat(search(new EventSearchCriteria(null, null, "re", null, null)).getContent())
+                .containsExactly(1L, 2L, 4L);
+        assertThat(search(new EventSearchCriteria(null, null, "sao", null, null)).getContent())
+                .containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("Deve combinar intervalo de data/hora com os demais filtros")
+    void search_whenRangeGiven_shouldCombineFilters() {
+        Page<Long> result = search(new EventSearchCriteria("tecnica", "Remoto", null, BASE.plusHours(1), BASE.plusDays(5)));
+
+        assertThat(result.getContent()).containsExactly(4L);
+    }
+
+    @Test
+    @DisplayName("Deve paginar os resultados mantendo o total")
+    void search_whenPaged_shouldReturnRequestedPage() {
+        Page<Long> result = index.search(new EventSearchCriteria(), PageRequest.of(1, 3));
+
+        assertThat(result.getContent()).containsExactly(4L);
+        assertThat(result.getTotalElements()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("Deve refletir atualizações e remoções e ignorar versões antigas")
+    void onChange_shouldKeepIndexInSync() {
+        index.onChange(EventChangeDTO.upserted(EventChangeType.UPDATED, event(3L, 2L, "Workshop de Kotlin", "Online", BASE)));
+        index.onChange(EventChangeDTO.upserted(EventChangeType.UPDATED, event(3L, 1L, "Workshop de Java", "São Paulo", BASE)));
+        index.onChange(EventChangeDTO.deleted(1L, 1L, Instant.now()));
+
+        assertThat(search(new EventSearchCriteria("java", null, null, null, null)).getContent()).isEmpty();
+        assertThat(search(new EventSearchCriteria("kotlin", "online", null, null, null)).getContent()).containsExactly(3L);
+        assertThat(search(new EventSearchCriteria("entrevista", null, null, null, null)).getContent()).containsExactly(2L);
+        assertThat(index.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("rebuild() não deve reindexar um evento deletado enquanto a reconstrução estava em andamento")
+    void rebuild_whenEventDeletedDuringRebuild_shouldNotRestoreIt() {
+        EventRepository eventRepository = mock(EventRepository.class);
+        EventSearchIndex rebuilding = new EventSearchIndex(eventRepository, mock(EntityManager.class));
+        when(eventRepository.streamByDeletedFalse()).thenReturn(Stream.of(entity(1L, "Workshop de Java"), entity(2L, "Workshop de Kotlin"))
+                .peek(event -> {
+                    if (event.getId() == 1L) {
+                        rebuilding.onChange(EventChangeDTO.deleted(2L, 1L, Instant.now()));
+                    }
+                }));
+
+        rebuilding.rebuild();
+        rebuilding.index(event(3L, 0L, "Workshop de Go", "Online", BASE));
+
+        assertThat(rebuilding.search(new EventSearchCriteria("workshop", null, null, null, null), PageRequest.of(0, 10)).getContent())
+                .containsExactly(1L, 3L);
+    }
+
+    private Event entity(Long id, String titulo) {
+        Event event = new Event(titulo, BASE, "Online");
+        event.setId(id);
+        event.setVersion(0L);
+        return event;
+    }
+
+    private Page<Long> search(EventSearchCriteria criteria) {
+        return index.search(criteria, PageRequest.of(0, 10));
+    }
+
+    private EventResponseDTO event(Long id, Long version, String titulo, String local, LocalDateTime dataHora) {
+        return new EventResponseDTO(id, titulo, dataHora, local, false, version, Instant.now());
+    }
+}
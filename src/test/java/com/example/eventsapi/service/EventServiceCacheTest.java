@@ -0,0 +1,100 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.config.CacheConfig;
+import com.example.eventsapi.dto.EventRequestDTO;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.exception.EventNotFoundException;
+import com.example.eventsapi.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@DisplayName("EventService Cache Tests")
+class EventServiceCacheTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @MockitoSpyBean
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        cacheManager.getCache(CacheConfig.EVENTS_CACHE).clear();
+        clearInvocations(eventRepository);
+    }
+
+    @Test
+    @DisplayName("findById() deve consultar o banco apenas no primeiro acesso")
+    void findById_whenCalledRepeatedly_shouldHitDatabaseOnce() {
+        EventResponseDTO created = eventService.create(createEventRequestDTO("Evento Popular"));
+        cacheManager.getCache(CacheConfig.EVENTS_CACHE).clear();
+
+        eventService.findById(created.getId());
+        eventService.findById(created.getId());
+        eventService.findById(created.getId());
+
+        verify(eventRepository, times(1)).findByIdAndDeletedFalse(created.getId());
+    }
+
+    @Test
+    @DisplayName("create() deve popular o cache e update() deve invalidá-lo")
+    void createAndUpdate_shouldRefreshCachedEvent() {
+        EventResponseDTO created = eventService.create(createEventRequestDTO("Evento Original"));
+
+        EventResponseDTO cached = eventService.findById(created.getId());
+        assertThat(cached.getTitulo()).isEqualTo("Evento Original");
+        assertThat(cached.getVersion()).isEqualTo(0L);
+        verify(eventRepository, never()).findByIdAndDeletedFalse(created.getId());
+
+        assertThat(eventService.update(created.getId(), createEventRequestDTO("Evento Atualizado"), null)).isEqualTo(1L);
+        clearInvocations(eventRepository);
+
+        EventResponseDTO updated = eventService.findById(created.getId());
+        assertThat(updated.getTitulo()).isEqualTo("Evento Atualizado");
+        assertThat(updated.getVersion()).isEqualTo(1L);
+        assertThat(updated.getUpdatedAt()).isAfterOrEqualTo(created.getUpdatedAt());
+        verify(eventRepository, times(1)).findByIdAndDeletedFalse(created.getId());
+    }
+
+    @Test
+    @DisplayName("update() sem versão esperada deve lançar exceção quando o evento foi removido")
+    void update_whenEventDeleted_shouldThrowNotFound() {
+        EventResponseDTO created = eventService.create(createEventRequestDTO("Evento Removido"));
+        eventService.delete(created.getId(), null);
+
+        assertThatThrownBy(() -> eventService.update(created.getId(), createEventRequestDTO("Evento Atualizado"), null))
+                .isInstanceOf(EventNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("delete() deve remover o evento do cache")
+    void delete_shouldEvictCachedEvent() {
+        EventResponseDTO created = eventService.create(createEventRequestDTO("Evento Removido"));
+        eventService.findById(created.getId());
+
+        eventService.delete(created.getId(), null);
+
+        assertThatThrownBy(() -> eventService.findById(created.getId()))
+                .isInstanceOf(EventNotFoundException.class);
+        assertThat(cacheManager.getCache(CacheConfig.EVENTS_CACHE).get(created.getId())).isNull();
+    }
+
+    private EventRequestDTO createEventRequestDTO(String titulo) {
+        return new EventRequestDTO(titulo, LocalDateTime.now().plusDays(1), "Local Teste");
+    }
+}
@@ -1,26 +1,40 @@
 package com.example.eventsapi.service;
 
+import com.example.eventsapi.dto.CursorPageResponseDTO;
+import com.example.eventsapi.dto.EventChangeDTO;
+import com.example.eventsapi.dto.EventChangeType;
+import com.example.eventsapi.dto.EventCursor;
 import com.example.eventsapi.dto.EventRequestDTO;
 import com.example.eventsapi.dto.EventResponseDTO;
 import com.example.eventsapi.entity.Event;
 import com.example.eventsapi.exception.EventNotFoundException;
+import com.example.eventsapi.exception.EventVersionConflictException;
+import com.example.eventsapi.exception.InvalidCursorException;
 import com.example.eventsapi.mapper.EventMapper;
+import com.example.eventsapi.repository.EventHistoryRepository;
 import com.example.eventsapi.repository.EventRepository;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -33,29 +47,35 @@ class EventServiceTest {
     @Mock
     private EventRepository eventRepository;
 
+    @Mock
+    private EventHistoryRepository eventHistoryRepository;
+
     @Mock
     private EventMapper eventMapper;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private ApproximateEventCounter approximateEventCounter;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private EventService eventService;
 
     @BeforeEach
     void setUp() {
-        eventService = new EventService(eventRepository, eventMapper);
+        eventService = new EventService(eventRepository, eventHistoryRepository, eventMapper, entityManager, approximateEventCounter, eventPublisher, Optional.empty());
     }
 
     @Test
     @DisplayName("findAll() deve retornar lista de eventos quando existirem eventos")
     void findAll_whenEventsExist_shouldReturnEventList() {
-        Event event1 = createEvent(1L, "Evento 1");
-        Event event2 = createEvent(2L, "Evento 2");
-        List<Event> events = Arrays.asList(event1, event2);
-
         EventResponseDTO responseDTO1 = createEventResponseDTO(1L, "Evento 1");
         EventResponseDTO responseDTO2 = createEventResponseDTO(2L, "Evento 2");
 
-        when(eventRepository.findByDeletedFalse()).thenReturn(events);
-        when(eventMapper.toResponseDTO(event1)).thenReturn(responseDTO1);
-        when(eventMapper.toResponseDTO(event2)).thenReturn(responseDTO2);
+        when(eventRepository.findByDeletedFalse()).thenReturn(Arrays.asList(responseDTO1, responseDTO2));
 
         List<EventResponseDTO> result = eventService.findAll();
 
@@ -64,19 +84,38 @@ class EventServiceTest {
         assertThat(result.get(1).getTitulo()).isEqualTo("Evento 2");
 
         verify(eventRepository).findByDeletedFalse();
-        verify(eventMapper, times(2)).toResponseDTO(any(Event.class));
+        verifyNoInteractions(eventMapper, entityManager);
+    }
+
+    @Test
+    @DisplayName("streamAll() deve entregar cada evento e desanexá-lo do contexto de persistência")
+    void streamAll_whenEventsExist_shouldEmitAndDetachEachEvent() {
+        Event event1 = createEvent(1L, "Evento 1");
+        Event event2 = createEvent(2L, "Evento 2");
+        EventResponseDTO responseDTO1 = createEventResponseDTO(1L, "Evento 1");
+        EventResponseDTO responseDTO2 = createEventResponseDTO(2L, "Evento 2");
+
+        when(eventRepository.streamByDeletedFalse()).thenReturn(Stream.of(event1, event2));
+        when(eventMapper.toResponseDTO(event1)).thenReturn(responseDTO1);
+        when(eventMapper.toResponseDTO(event2)).thenReturn(responseDTO2);
+
+        List<EventResponseDTO> received = new ArrayList<>();
+        eventService.streamAll(received::add);
+
+        assertThat(received).containsExactly(responseDTO1, responseDTO2);
+
+        verify(entityManager).detach(event1);
+        verify(entityManager).detach(event2);
+        verify(eventRepository, never()).findByDeletedFalse();
     }
 
     @Test
     @DisplayName("findAll(pageable) deve retornar página de eventos")
     void findAllPageable_whenEventsExist_shouldReturnPagedEvents() {
         Pageable pageable = PageRequest.of(0, 10);
-        Event event = createEvent(1L, "Evento 1");
-        Page<Event> eventPage = new PageImpl<>(Arrays.asList(event), pageable, 1);
-        EventResponseDTO responseDTO = createEventResponseDTO(1L, "Evento 1");
+        Page<EventResponseDTO> eventPage = new PageImpl<>(List.of(createEventResponseDTO(1L, "Evento 1")), pageable, 1);
 
         when(eventRepository.findByDeletedFalse(pageable)).thenReturn(eventPage);
-        when(eventMapper.toResponseDTO(event)).thenReturn(responseDTO);
 
         Page<EventResponseDTO> result = eventService.findAll(pageable);
 
@@ -85,17 +124,84 @@ class EventServiceTest {
         assertThat(result.getTotalElements()).isEqualTo(1);
 
         verify(eventRepository).findByDeletedFalse(pageable);
+        verifyNoInteractions(eventMapper);
+    }
+
+    @Test
+    @DisplayName("findSlice() deve retornar fatia de eventos sem executar contagem")
+    void findSlice_whenEventsExist_shouldReturnSliceWithoutCount() {
+        Pageable pageable = PageRequest.of(0, 1);
+        Slice<EventResponseDTO> eventSlice = new SliceImpl<>(List.of(createEventResponseDTO(1L, "Evento 1")), pageable, true);
+
+        when(eventRepository.findSliceByDeletedFalse(pageable)).thenReturn(eventSlice);
+
+        Slice<EventResponseDTO> result = eventService.findSlice(pageable);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.hasNext()).isTrue();
+        verify(eventRepository, never()).findByDeletedFalse(any(Pageable.class));
+        verify(eventRepository, never()).countByDeletedFalse();
+    }
+
+    @Test
+    @DisplayName("approximateCount() deve usar o contador em cache")
+    void approximateCount_shouldDelegateToCachedCounter() {
+        when(approximateEventCounter.get()).thenReturn(42L);
+
+        assertThat(eventService.approximateCount()).isEqualTo(42L);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("findAllByCursor() sem cursor deve retornar primeira página e próximo cursor")
+    void findAllByCursor_whenMoreEventsExist_shouldReturnNextCursor() {
+        EventResponseDTO event1 = createEventResponseDTO(1L, "Evento 1");
+        EventResponseDTO event2 = createEventResponseDTO(2L, "Evento 2");
+        EventResponseDTO event3 = createEventResponseDTO(3L, "Evento 3");
+
+        when(eventRepository.findFirstKeysetPage(PageRequest.of(0, 3))).thenReturn(Arrays.asList(event1, event2, event3));
+
+        CursorPageResponseDTO<EventResponseDTO> result = eventService.findAllByCursor(null, 2);
+
+        assertThat(result.getContent()).extracting(EventResponseDTO::getId).containsExactly(1L, 2L);
+        assertThat(result.isHasNext()).isTrue();
+        EventCursor next = EventCursor.decode(result.getNextCursor());
+        assertThat(next.getId()).isEqualTo(2L);
+        assertThat(next.getDataHora()).isEqualTo(event2.getDataHora());
+    }
+
+    @Test
+    @DisplayName("findAllByCursor() deve buscar a partir da posição do cursor")
+    void findAllByCursor_whenCursorGiven_shouldSeekAfterPosition() {
+        LocalDateTime dataHora = LocalDateTime.of(2030, 1, 1, 10, 0);
+        String cursor = new EventCursor(dataHora, 5L).encode();
+        when(eventRepository.findKeysetPageAfter(dataHora, 5L, PageRequest.of(0, 11)))
+                .thenReturn(List.of(createEventResponseDTO(6L, "Evento 6")));
+
+        CursorPageResponseDTO<EventResponseDTO> result = eventService.findAllByCursor(cursor, 10);
+
+        assertThat(result.getContent()).hasSize(1);
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+        verify(eventRepository, never()).findByDeletedFalse(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("findAllByCursor() deve lançar exceção para cursor inválido")
+    void findAllByCursor_whenCursorInvalid_shouldThrowException() {
+        assertThatThrownBy(() -> eventService.findAllByCursor("nao-e-um-cursor", 10))
+                .isInstanceOf(InvalidCursorException.class);
+
+        verifyNoInteractions(eventRepository);
     }
 
     @Test
     @DisplayName("findById() deve retornar evento quando ID existir")
     void findById_whenEventExists_shouldReturnEvent() {
         Long eventId = 1L;
-        Event event = createEvent(eventId, "Evento Teste");
         EventResponseDTO responseDTO = createEventResponseDTO(eventId, "Evento Teste");
 
-        when(eventRepository.findByIdAndDeletedFalse(eventId)).thenReturn(Optional.of(event));
-        when(eventMapper.toResponseDTO(event)).thenReturn(responseDTO);
+        when(eventRepository.findByIdAndDeletedFalse(eventId)).thenReturn(Optional.of(responseDTO));
 
         EventResponseDTO result = eventService.findById(eventId);
 
@@ -104,7 +210,7 @@ class EventServiceTest {
         assertThat(result.getTitulo()).isEqualTo("Evento Teste");
 
         verify(eventRepository).findByIdAndDeletedFalse(eventId);
-        verify(eventMapper).toResponseDTO(event);
+        verifyNoInteractions(eventMapper);
     }
 
     @Test
@@ -145,28 +251,58 @@ class EventServiceTest {
     }
 
     @Test
-    @DisplayName("update() deve atualizar evento existente")
+    @DisplayName("update() deve atualizar evento existente com um único UPDATE")
     void update_whenEventExists_shouldUpdateEvent() {
         Long eventId = 1L;
         EventRequestDTO requestDTO = createEventRequestDTO("Evento Atualizado");
-        Event existingEvent = createEvent(eventId, "Evento Original");
-        Event updatedEvent = createEvent(eventId, "Evento Atualizado");
-        EventResponseDTO responseDTO = createEventResponseDTO(eventId, "Evento Atualizado");
 
-        when(eventRepository.findByIdAndDeletedFalse(eventId)).thenReturn(Optional.of(existingEvent));
-        when(eventRepository.save(existingEvent)).thenReturn(updatedEvent);
-        when(eventMapper.toResponseDTO(updatedEvent)).thenReturn(responseDTO);
+        when(eventRepository.updateReturningVersion(eq(eventId), eq(requestDTO.getTitulo()), eq(requestDTO.getDataHora()),
+                eq(requestDTO.getLocal()), any(Instant.class)))
+                .thenReturn(Optional.of(4L));
+        when(eventMapper.toResponseDTO(eq(eventId), eq(requestDTO), eq(4L), any(Instant.class)))
+                .thenReturn(createEventResponseDTO(eventId, "Evento Atualizado"));
 
-        EventResponseDTO result = eventService.update(eventId, requestDTO);
+        long version = eventService.update(eventId, requestDTO, null);
 
-        assertThat(result).isNotNull();
-        assertThat(result.getId()).isEqualTo(eventId);
-        assertThat(result.getTitulo()).isEqualTo("Evento Atualizado");
+        assertThat(version).isEqualTo(4L);
+        verify(eventRepository, never()).findVersionById(any());
+        verify(eventRepository, never()).findByIdAndDeletedFalse(any());
+        verify(eventRepository, never()).save(any());
+    }
 
-        verify(eventRepository).findByIdAndDeletedFalse(eventId);
-        verify(eventMapper).updateEntity(existingEvent, requestDTO);
-        verify(eventRepository).save(existingEvent);
-        verify(eventMapper).toResponseDTO(updatedEvent);
+    @Test
+    @DisplayName("update() com versão esperada deve atualizar sem consultas adicionais")
+    void update_whenExpectedVersionMatches_shouldReturnNextVersion() {
+        Long eventId = 1L;
+        EventRequestDTO requestDTO = createEventRequestDTO("Evento Atualizado");
+
+        when(eventRepository.updateByIdAndVersion(eq(eventId), eq(3L), eq(requestDTO.getTitulo()),
+                eq(requestDTO.getDataHora()), eq(requestDTO.getLocal()), any(Instant.class)))
+                .thenReturn(1);
+        when(eventMapper.toResponseDTO(eq(eventId), eq(requestDTO), eq(4L), any(Instant.class)))
+                .thenReturn(createEventResponseDTO(eventId, "Evento Atualizado"));
+
+        long version = eventService.update(eventId, requestDTO, 3L);
+
+        assertThat(version).isEqualTo(4L);
+        verify(eventPublisher).publishEvent(argThat((EventChangeDTO change) ->
+                change.getType() == EventChangeType.UPDATED && change.getId().equals(eventId)));
+        verify(eventRepository, never()).findVersionById(any());
+        verify(eventRepository, never()).updateReturningVersion(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("update() deve lançar conflito quando a versão esperada estiver desatualizada")
+    void update_whenExpectedVersionStale_shouldThrowConflict() {
+        Long eventId = 1L;
+        EventRequestDTO requestDTO = createEventRequestDTO("Evento Atualizado");
+
+        when(eventRepository.updateByIdAndVersion(eq(eventId), eq(2L), any(), any(), any(), any())).thenReturn(0);
+        when(eventRepository.findVersionById(eventId)).thenReturn(Optional.of(3L));
+
+        assertThatThrownBy(() -> eventService.update(eventId, requestDTO, 2L))
+                .isInstanceOf(EventVersionConflictException.class)
+                .extracting("currentVersion").isEqualTo(3L);
     }
 
     @Test
@@ -175,31 +311,40 @@ class EventServiceTest {
         Long eventId = 999L;
         EventRequestDTO requestDTO = createEventRequestDTO("Evento Atualizado");
 
-        when(eventRepository.findByIdAndDeletedFalse(eventId)).thenReturn(Optional.empty());
+        when(eventRepository.updateReturningVersion(eq(eventId), any(), any(), any(), any())).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> eventService.update(eventId, requestDTO))
+        assertThatThrownBy(() -> eventService.update(eventId, requestDTO, null))
                 .isInstanceOf(EventNotFoundException.class);
 
-        verify(eventRepository).findByIdAndDeletedFalse(eventId);
         verifyNoInteractions(eventMapper);
         verify(eventRepository, never()).save(any());
     }
 
     @Test
-    @DisplayName("delete() deve fazer soft delete do evento")
+    @DisplayName("delete() deve fazer soft delete do evento com um único UPDATE")
     void delete_whenEventExists_shouldSoftDeleteEvent() {
         Long eventId = 1L;
-        Event event = createEvent(eventId, "Evento a ser deletado");
-        event.setDeleted(false);
 
-        when(eventRepository.findByIdAndDeletedFalse(eventId)).thenReturn(Optional.of(event));
+        when(eventRepository.softDeleteReturningVersion(eq(eventId), any(Instant.class))).thenReturn(Optional.of(3L));
+
+        eventService.delete(eventId, null);
 
-        eventService.delete(eventId);
+        verify(eventPublisher).publishEvent(argThat((EventChangeDTO change) ->
+                change.getType() == EventChangeType.DELETED && change.getVersion().equals(3L)));
+        verify(eventRepository, never()).findByIdAndDeletedFalse(any());
+        verify(eventRepository, never()).save(any());
+    }
 
-        assertThat(event.isDeleted()).isTrue();
+    @Test
+    @DisplayName("delete() com versão esperada deve retornar 404 quando evento não existir")
+    void delete_whenExpectedVersionAndEventNotExists_shouldThrowNotFound() {
+        Long eventId = 999L;
 
-        verify(eventRepository).findByIdAndDeletedFalse(eventId);
-        verify(eventRepository).save(event);
+        when(eventRepository.softDeleteByIdAndVersion(eq(eventId), eq(1L), any(Instant.class))).thenReturn(0);
+        when(eventRepository.findVersionById(eventId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> eventService.delete(eventId, 1L))
+                .isInstanceOf(EventNotFoundException.class);
     }
 
     @Test
@@ -207,13 +352,12 @@ class EventServiceTest {
     void delete_whenEventNotExists_shouldThrowException() {
         Long eventId = 999L;
 
-        when(eventRepository.findByIdAndDeletedFalse(eventId)).thenReturn(Optional.empty());
+        when(eventRepository.softDeleteReturningVersion(eq(eventId), any(Instant.class))).thenReturn(Optional.empty());
 
-        assertThatThrownBy(() -> eventService.delete(eventId))
+        assertThatThrownBy(() -> eventService.delete(eventId, null))
                 .isInstanceOf(EventNotFoundException.class);
 
-        verify(eventRepository).findByIdAndDeletedFalse(eventId);
-        verify(eventRepository, never()).save(any());
+        verify(eventRepository, never()).findVersionById(any());
     }
 
     private Event createEvent(Long id, String titulo) {
@@ -227,7 +371,7 @@ class EventServiceTest {
     }
 
     private EventResponseDTO createEventResponseDTO(Long id, String titulo) {
-        return new EventResponseDTO(id, titulo, LocalDateTime.now().plusDays(1), "Local Teste", false);
+        return new EventResponseDTO(id, titulo, LocalDateTime.now().plusDays(1), "Local Teste", false, 0L, Instant.now());
     }
 
     private EventRequestDTO createEventRequestDTO(String titulo) {
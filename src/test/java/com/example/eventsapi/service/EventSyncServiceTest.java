@@ -0,0 +1,193 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.dto.ChangeToken;
+import com.example.eventsapi.dto.CursorPageResponseDTO;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.entity.ArchivedEvent;
+import com.example.eventsapi.entity.Event;
+import com.example.eventsapi.entity.SyncHorizon;
+import com.example.eventsapi.exception.ChangeTokenExpiredException;
+import com.example.eventsapi.exception.InvalidCursorException;
+import com.example.eventsapi.mapper.EventMapper;
+import com.example.eventsapi.repository.ArchivedEventRepository;
+import com.example.eventsapi.repository.EventRepository;
+import com.example.eventsapi.repository.SyncHorizonRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("EventSyncService Tests")
+class EventSyncServiceTest {
+    private static final Instant BASE = Instant.parse("2025-01-01T10:00:00Z");
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private ArchivedEventRepository archivedEventRepository;
+
+    @Mock
+    private SyncHorizonRepository syncHorizonRepository;
+
+    private EventSyncService eventSyncService;
+
+    @BeforeEach
+    void setUp() {
+        eventSyncService = new EventSyncService(eventRepository, archivedEventRepository, syncHorizonRepository,
+                new EventMapper(), Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("findChanges() sem token deve começar do início e respeitar a margem de segurança")
+    void findChanges_whenNoToken_shouldStartFromBeginningWithSafetyLag() {
+        when(eventRepository.findFirstChangesPage(any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(createEvent(1L, 0, false), createEvent(2L, 1, true), createEvent(3L, 2, false)));
+
+        Instant before = Instant.now();
+        CursorPageResponseDTO<EventResponseDTO> result = eventSyncService.findChanges(null, 2);
+
+        ArgumentCaptor<Instant> until = ArgumentCaptor.forClass(Instant.class);
+        ArgumentCaptor<Pageable> limit = ArgumentCaptor.forClass(Pageable.class);
+        verify(eventRepository).findFirstChangesPage(until.capture(), limit.capture());
+        assertThat(until.getValue()).isBefore(before.minusSeconds(4));
+        assertThat(limit.getValue().getPageSize()).isEqualTo(3);
+
+        assertThat(result.getContent()).extracting(EventResponseDTO::getId).containsExactly(1L, 2L);
+        assertThat(result.getContent().get(1).isDeleted()).isTrue();
+        assertThat(result.isHasNext()).isTrue();
+        ChangeToken next = ChangeToken.decode(result.getNextCursor());
+        assertThat(next.getId()).isEqualTo(2L);
+        assertThat(next.getUpdatedAt()).isEqualTo(BASE.plusSeconds(1));
+    }
+
+    @Test
+    @DisplayName("findChanges() com token deve continuar a partir da posição e mantê-lo quando não houver novidades")
+    void findChanges_whenTokenGivenAndNoChanges_shouldKeepToken() {
+        String since = new ChangeToken(BASE, 7L).encode();
+        when(eventRepository.findChangesAfter(eq(BASE), eq(7L), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of());
+
+        CursorPageResponseDTO<EventResponseDTO> result = eventSyncService.findChanges(since, 100);
+
+        assertThat(result.getContent()).isEmpty();
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isEqualTo(since);
+    }
+
+    @Test
+    @DisplayName("findChanges() deve intercalar eventos arquivados como tombstones na ordem de alteração")
+    void findChanges_whenEventsArchived_shouldReportThemAsTombstones() {
+        String since = new ChangeToken(BASE, 0L).encode();
+        when(eventRepository.findChangesAfter(eq(BASE), eq(0L), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(createEvent(1L, 1, false), createEvent(3L, 3, false)));
+        when(archivedEventRepository.findArchivedChangesAfter(eq(BASE), eq(0L), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of(createArchivedEvent(2L, 2)));
+
+        CursorPageResponseDTO<EventResponseDTO> result = eventSyncService.findChanges(since, 2);
+
+        assertThat(result.getContent()).extracting(EventResponseDTO::getId).containsExactly(1L, 2L);
+        assertThat(result.getContent().get(1).isDeleted()).isTrue();
+        assertThat(result.getContent().get(1).getUpdatedAt()).isEqualTo(BASE.plusSeconds(2));
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(ChangeToken.decode(result.getNextCursor()).getUpdatedAt()).isEqualTo(BASE.plusSeconds(2));
+    }
+
+    @Test
+    @DisplayName("findChanges() deve rejeitar token inválido")
+    void findChanges_whenTokenInvalid_shouldThrowException() {
+        assertThatThrownBy(() -> eventSyncService.findChanges("lixo", 10))
+                .isInstanceOf(InvalidCursorException.class);
+        verifyNoInteractions(eventRepository);
+    }
+
+    @Test
+    @DisplayName("findChanges() deve rejeitar token anterior ao horizonte de tombstones gravado no banco")
+    void findChanges_whenTokenOlderThanRemovedTombstones_shouldThrowException() {
+        when(syncHorizonRepository.findTombstoneHorizon()).thenReturn(Optional.of(BASE.plusSeconds(10)));
+
+        assertThatThrownBy(() -> eventSyncService.findChanges(new ChangeToken(BASE.plusSeconds(10), 7L).encode(), 10))
+                .isInstanceOf(ChangeTokenExpiredException.class);
+
+        when(eventRepository.findChangesAfter(eq(BASE.plusSeconds(11)), eq(7L), any(Instant.class), any(Pageable.class)))
+                .thenReturn(List.of());
+        assertThat(eventSyncService.findChanges(new ChangeToken(BASE.plusSeconds(11), 7L).encode(), 10).getContent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("findChanges() deve ler o horizonte depois das alterações, para detectar expurgos concluídos no meio da consulta")
+    void findChanges_shouldReadHorizonAfterChanges() {
+        when(eventRepository.findChangesAfter(eq(BASE), eq(7L), any(Instant.class), any(Pageable.class))).thenReturn(List.of());
+
+        eventSyncService.findChanges(new ChangeToken(BASE, 7L).encode(), 10);
+
+        InOrder order = inOrder(eventRepository, archivedEventRepository, syncHorizonRepository);
+        order.verify(eventRepository).findChangesAfter(eq(BASE), eq(7L), any(Instant.class), any(Pageable.class));
+        order.verify(archivedEventRepository).findArchivedChangesAfter(eq(BASE), eq(7L), any(Instant.class), any(Pageable.class));
+        order.verify(syncHorizonRepository).findTombstoneHorizon();
+    }
+
+    @Test
+    @DisplayName("tombstonesRemoved() deve criar a linha do horizonte quando ela ainda não existe")
+    void tombstonesRemoved_whenNoHorizonRow_shouldInsertIt() {
+        when(syncHorizonRepository.advanceTombstoneHorizon(BASE)).thenReturn(0);
+        when(syncHorizonRepository.existsById(SyncHorizon.ID)).thenReturn(false);
+
+        eventSyncService.tombstonesRemoved(BASE);
+
+        ArgumentCaptor<SyncHorizon> saved = ArgumentCaptor.forClass(SyncHorizon.class);
+        verify(syncHorizonRepository).save(saved.capture());
+        assertThat(saved.getValue().getId()).isEqualTo(SyncHorizon.ID);
+        assertThat(saved.getValue().getTombstonesRemovedUpTo()).isEqualTo(BASE);
+    }
+
+    @Test
+    @DisplayName("tombstonesRemoved() não deve recuar um horizonte já mais adiantado")
+    void tombstonesRemoved_whenHorizonAhead_shouldKeepIt() {
+        when(syncHorizonRepository.advanceTombstoneHorizon(BASE)).thenReturn(0);
+        when(syncHorizonRepository.existsById(SyncHorizon.ID)).thenReturn(true);
+
+        eventSyncService.tombstonesRemoved(BASE);
+        eventSyncService.tombstonesRemoved(null);
+
+        verify(syncHorizonRepository, never()).save(any());
+        verify(syncHorizonRepository).advanceTombstoneHorizon(any());
+    }
+
+    private ArchivedEvent createArchivedEvent(Long id, int secondsAfterBase) {
+        ArchivedEvent event = new ArchivedEvent();
+        event.setId(id);
+        event.setTitulo("Evento " + id);
+        event.setDataHora(LocalDateTime.now().minusDays(2));
+        event.setLocal("Local");
+        event.setVersion(0L);
+        event.setUpdatedAt(BASE);
+        event.setArchivedAt(BASE.plusSeconds(secondsAfterBase));
+        return event;
+    }
+
+    private Event createEvent(Long id, int secondsAfterBase, boolean deleted) {
+        Event event = new Event("Evento " + id, LocalDateTime.now().plusDays(1), "Local");
+        event.setId(id);
+        event.setDeleted(deleted);
+        event.setVersion(0L);
+        event.setUpdatedAt(BASE.plusSeconds(secondsAfterBase));
+        return event;
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.eventsapi.service;
+
+import com.example.eventsapi.dto.EventChangeDTO;
+import com.example.eventsapi.dto.EventChangeType;
+import com.example.eventsapi.dto.EventResponseDTO;
+import com.example.eventsapi.entity.Event;
+import com.example.eventsapi.mapper.EventMapper;
+import com.example.eventsapi.repository.EventRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("UpcomingEventsIndex Tests")
+class UpcomingEventsIndexTest {
+    private final LocalDateTime base = LocalDateTime.now().plusDays(1);
+
+    private UpcomingEventsIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new UpcomingEventsIndex(null, null, null);
+        index.put(event(3L, 0L, base.plusHours(3)));
+        index.put(event(1L, 0L, base.plusHours(1)));
+        index.put(event(2L, 0L, base.plusHours(1)));
+        index.put(event(4L, 0L, base.plusHours(4)));
+    }
+
+    @Test
+    @DisplayName("next() deve retornar os próximos eventos ordenados por data/hora e ID")
+    void next_shouldReturnEventsInTimeOrder() {
+        assertThat(index.next(null, 3)).extracting(EventResponseDTO::getId).containsExactly(1L, 2L, 3L);
+        assertThat(index.next(base.plusHours(2), 10)).extracting(EventResponseDTO::getId).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("onChange() deve reposicionar eventos atualizados, remover deletados e ignorar versões antigas")
+    void onChange_shouldKeepTimelineInSync() {
+        index.onChange(EventChangeDTO.upserted(EventChangeType.UPDATED, event(1L, 2L, base.plusHours(5))));
+        index.onChange(EventChangeDTO.upserted(EventChangeType.UPDATED, event(1L, 1L, base)));
+        index.onChange(EventChangeDTO.deleted(3L, 1L, Instant.now()));
+        index.onChange(EventChangeDTO.upserted(EventChangeType.CREATED, event(5L, 0L, base)));
+
+        assertThat(index.next(null, 10)).extracting(EventResponseDTO::getId).containsExactly(5L, 2L, 4L, 1L);
+        assertThat(index.size()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("prune() deve descartar eventos que já passaram")
+    void prune_shouldDropPastEvents() {
+        index.prune(base.plusHours(2));
+
+        assertThat(index.next(base.minusDays(1), 10)).extracting(EventResponseDTO::getId).containsExactly(3L, 4L);
+        assertThat(index.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("warmUp() não deve recolocar um evento deletado enquanto o carregamento estava em andamento")
+    void warmUp_whenEventDeletedDuringWarmUp_shouldNotRestoreIt() {
+        EventRepository eventRepository = mock(EventRepository.class);
+        UpcomingEventsIndex warming = new UpcomingEventsIndex(eventRepository, new EventMapper(), mock(EntityManager.class));
+        when(eventRepository.streamUpcoming(any())).thenReturn(Stream.of(entity(1L), entity(2L))
+                .peek(event -> {
+                    if (event.getId() == 1L) {
+                        warming.onChange(EventChangeDTO.deleted(2L, 1L, Instant.now()));
+                    }
+                }));
+
+        warming.warmUp();
+        warming.onChange(EventChangeDTO.upserted(EventChangeType.CREATED, event(3L, 0L, base)));
+
+        assertThat(warming.next(null, 10)).extracting(EventResponseDTO::getId).containsExactly(3L, 1L);
+    }
+
+    private Event entity(Long id) {
+        Event event = new Event("Evento " + id, base.plusHours(id), "Local");
+        event.setId(id);
+        event.setVersion(0L);
+        event.setUpdatedAt(Instant.now());
+        return event;
+    }
+
+    private EventResponseDTO event(Long id, Long version, LocalDateTime dataHora) {
+        return new EventResponseDTO(id, "Evento " + id, dataHora, "Local", false, version, Instant.now());
+    }
+}